@@ -0,0 +1,99 @@
+package dev.morphia.benchmarks;
+
+import org.bson.Document;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static java.lang.String.format;
+
+/**
+ * Compares two JMH JSON result files, e.g., the stored baseline of the previous release and a new run, and reports the change in
+ * the primary score and the normalized allocation rate of each benchmark.  Exits with a non-zero status if any benchmark regressed
+ * by more than the given threshold.
+ * <pre>
+ * java -cp target/benchmarks.jar dev.morphia.benchmarks.BaselineComparator baselines/2.0.0.json benchmarks.json [threshold %]
+ * </pre>
+ */
+public final class BaselineComparator {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BaselineComparator() {
+    }
+
+    /**
+     * @param args the baseline file, the candidate file, and optionally the allowed regression in percent.  The default is 10%.
+     * @throws IOException if either file can not be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <candidate.json> [threshold %]");
+            System.exit(2);
+        }
+        Map<String, Document> baseline = load(args[0]);
+        Map<String, Document> candidate = load(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        boolean regressed = false;
+        System.out.println(format("%-70s %15s %15s %9s %12s", "Benchmark", "Baseline", "Candidate", "Change", "Alloc B/op"));
+        for (Entry<String, Document> entry : candidate.entrySet()) {
+            Document previous = baseline.get(entry.getKey());
+            Document current = entry.getValue();
+            double score = score(current);
+            if (previous == null) {
+                System.out.println(format("%-70s %15s %15.3f %9s %12s", entry.getKey(), "-", score, "new", allocation(current)));
+                continue;
+            }
+            double change = improvement(previous, score(previous), score);
+            regressed |= change < -threshold;
+            System.out.println(format("%-70s %15.3f %15.3f %+8.1f%% %12s", entry.getKey(), score(previous), score, change,
+                allocation(current)));
+        }
+        if (regressed) {
+            System.out.println(format("At least one benchmark regressed by more than %.1f%%", threshold));
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Document> load(String file) throws IOException {
+        String json = new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8);
+        List<Document> runs = Document.parse(format("{ runs: %s }", json)).getList("runs", Document.class);
+        Map<String, Document> results = new LinkedHashMap<>();
+        for (Document run : runs) {
+            results.put(name(run), run);
+        }
+        return results;
+    }
+
+    private static String name(Document run) {
+        StringBuilder name = new StringBuilder(run.getString("benchmark"));
+        Document params = run.get("params", Document.class);
+        if (params != null) {
+            params.forEach((key, value) -> name.append(format(" %s=%s", key, value)));
+        }
+        return name.toString();
+    }
+
+    private static double score(Document run) {
+        return run.get("primaryMetric", Document.class).get("score", Number.class).doubleValue();
+    }
+
+    private static String allocation(Document run) {
+        Document secondary = run.get("secondaryMetrics", Document.class);
+        Document allocation = secondary != null ? secondary.get(ALLOCATION, Document.class) : null;
+        return allocation != null ? format("%.1f", allocation.get("score", Number.class).doubleValue()) : "-";
+    }
+
+    // positive values are improvements regardless of whether higher or lower scores are better for the benchmark's mode
+    private static double improvement(Document run, double previous, double current) {
+        double change = (current - previous) / previous * 100;
+        String mode = run.getString("mode");
+        return "thrpt".equals(mode) ? change : -change;
+    }
+}
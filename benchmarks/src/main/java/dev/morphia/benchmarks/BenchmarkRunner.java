@@ -0,0 +1,50 @@
+package dev.morphia.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Runs all the benchmarks with the GC profiler enabled and writes the results as JSON so they can be compared against a
+ * baseline with {@link BaselineComparator}.  The path of the JVM used is left out of the results so that baselines can be shared.
+ * <pre>
+ * java -cp target/benchmarks.jar dev.morphia.benchmarks.BenchmarkRunner baselines/2.1.0.json [include regex]
+ * </pre>
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * @param args the output file and optionally a regular expression selecting the benchmarks to run
+     * @throws RunnerException if the benchmarks fail to run
+     * @throws IOException     if the results can not be rewritten
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        String output = args.length > 0 ? args[0] : "benchmarks.json";
+        String include = args.length > 1 ? args[1] : BenchmarkRunner.class.getPackageName() + ".*Benchmarks";
+
+        Options options = new OptionsBuilder()
+                              .include(include)
+                              .addProfiler(GCProfiler.class)
+                              .resultFormat(ResultFormatType.JSON)
+                              .result(output)
+                              .build();
+        new Runner(options).run();
+
+        Path results = Paths.get(output);
+        List<String> lines = Files.readAllLines(results, StandardCharsets.UTF_8);
+        lines.removeIf(line -> line.trim().startsWith("\"jvm\" :"));
+        Files.write(results, lines, StandardCharsets.UTF_8);
+    }
+}
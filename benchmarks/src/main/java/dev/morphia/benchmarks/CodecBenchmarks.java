@@ -0,0 +1,90 @@
+package dev.morphia.benchmarks;
+
+import dev.morphia.benchmarks.models.ArrayHeavy;
+import dev.morphia.benchmarks.models.Drawing;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.benchmarks.models.Nested;
+import dev.morphia.benchmarks.models.Referencing;
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding entities to and decoding them from in-memory BSON buffers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@SuppressWarnings("unchecked")
+public class CodecBenchmarks {
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    @Param({"flat", "nested", "polymorphic", "references", "arrays"})
+    private String shape;
+
+    private Codec<Object> codec;
+    private Object entity;
+    private RawBsonDocument encoded;
+
+    /**
+     * Creates the entity and its encoded form
+     *
+     * @param state the shared state
+     */
+    @Setup
+    public void setup(MorphiaState state) {
+        entity = create(shape);
+        codec = (Codec<Object>) state.getDatastore().getMapper().getCodecRegistry().get(entity.getClass());
+        encoded = new RawBsonDocument(entity, codec);
+    }
+
+    /**
+     * @return the decoded entity
+     */
+    @Benchmark
+    public Object decode() {
+        return codec.decode(new BsonBinaryReader(encoded.getByteBuffer().asNIO()), DECODER_CONTEXT);
+    }
+
+    /**
+     * @return the encoded entity
+     */
+    @Benchmark
+    public RawBsonDocument encode() {
+        return new RawBsonDocument(entity, codec);
+    }
+
+    static Object create(String shape) {
+        switch (shape) {
+            case "flat":
+                return new Flat(42);
+            case "nested":
+                return new Nested(5);
+            case "polymorphic":
+                return new Drawing(20);
+            case "references":
+                return new Referencing(20);
+            case "arrays":
+                return new ArrayHeavy(100);
+            default:
+                throw new IllegalArgumentException(shape);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.morphia.benchmarks;
+
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the startup cost of mapping the benchmark entities with a fresh Mapper.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class MapperBenchmarks {
+    /**
+     * @param state the shared state
+     * @return the mapped models
+     */
+    @Benchmark
+    public List<EntityModel> map(MorphiaState state) {
+        Datastore datastore = Morphia.createDatastore(state.getClient(), "morphia_benchmarks");
+        return datastore.getMapper().map(MorphiaState.ENTITIES);
+    }
+}
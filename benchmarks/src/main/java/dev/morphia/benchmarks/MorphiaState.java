@@ -0,0 +1,62 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.benchmarks.models.ArrayHeavy;
+import dev.morphia.benchmarks.models.Circle;
+import dev.morphia.benchmarks.models.Drawing;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.benchmarks.models.Nested;
+import dev.morphia.benchmarks.models.Referencing;
+import dev.morphia.benchmarks.models.Square;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared state for the benchmarks.  The client is created lazily by the driver and none of the benchmarks issue any commands so
+ * no server is needed to run them.
+ */
+@State(Scope.Benchmark)
+public class MorphiaState {
+    static final Class<?>[] ENTITIES = {Flat.class, Nested.class, Drawing.class, Circle.class, Square.class, Referencing.class,
+        ArrayHeavy.class};
+
+    private MongoClient client;
+    private Datastore datastore;
+
+    /**
+     * Creates the datastore and maps the benchmark entities
+     */
+    @Setup
+    public void setup() {
+        client = MongoClients.create();
+        datastore = Morphia.createDatastore(client, "morphia_benchmarks");
+        datastore.getMapper().map(ENTITIES);
+    }
+
+    /**
+     * Closes the client
+     */
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    /**
+     * @return the client
+     */
+    public MongoClient getClient() {
+        return client;
+    }
+
+    /**
+     * @return the datastore
+     */
+    public Datastore getDatastore() {
+        return datastore;
+    }
+}
@@ -0,0 +1,115 @@
+package dev.morphia.benchmarks;
+
+import dev.morphia.Datastore;
+import dev.morphia.aggregation.experimental.AggregationImpl;
+import dev.morphia.aggregation.experimental.stages.Group;
+import dev.morphia.aggregation.experimental.stages.Sort;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.benchmarks.models.Nested;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.morphia.aggregation.experimental.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.experimental.expressions.Expressions.value;
+import static dev.morphia.aggregation.experimental.stages.Group.id;
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gt;
+import static dev.morphia.query.experimental.filters.Filters.in;
+import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+
+/**
+ * Measures building query, update, and aggregation documents.  None of these are sent to the server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class QueryBenchmarks {
+    private final ObjectId id = new ObjectId();
+    private Datastore datastore;
+    private EntityModel nestedModel;
+
+    /**
+     * @param state the shared state
+     */
+    @Setup
+    public void setup(MorphiaState state) {
+        datastore = state.getDatastore();
+        nestedModel = datastore.getMapper().getEntityModel(Nested.class);
+    }
+
+    /**
+     * @return the pipeline documents
+     */
+    @Benchmark
+    public List<Document> aggregation() {
+        return ((AggregationImpl<Nested>) datastore.aggregate(Nested.class)
+                                                   .match(eq("home.city", "Springfield"))
+                                                   .group(Group.of(id("work.city"))
+                                                               .field("count", sum(value(1))))
+                                                   .sort(Sort.on().descending("count")))
+                   .getDocuments();
+    }
+
+    /**
+     * @return the query document
+     */
+    @Benchmark
+    public Document filters() {
+        return datastore.find(Flat.class)
+                        .filter(eq("name", "flat-42"),
+                            gt("count", 10),
+                            in("total", List.of(1000L, 2000L, 3000L)))
+                        .toDocument();
+    }
+
+    /**
+     * @return the query document
+     */
+    @Benchmark
+    public Document nestedFilters() {
+        return datastore.find(Nested.class)
+                        .filter(eq("home.city", "Springfield"),
+                            eq("previous.zip", "20001"))
+                        .toDocument();
+    }
+
+    /**
+     * @return the translated path
+     */
+    @Benchmark
+    public String pathTranslation() {
+        return new PathTarget(datastore.getMapper(), nestedModel, "previous.city").translatedPath();
+    }
+
+    /**
+     * @return the update document
+     */
+    @Benchmark
+    public Document update() {
+        return datastore.find(Flat.class)
+                        .filter(eq("_id", id))
+                        .update(set("name", "updated"),
+                            inc("count"),
+                            set("active", true))
+                        .toDocument();
+    }
+}
@@ -0,0 +1,19 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Embedded;
+
+@Embedded
+public class Address {
+    private String street;
+    private String city;
+    private String zip;
+
+    public Address() {
+    }
+
+    public Address(String street, String city, String zip) {
+        this.street = street;
+        this.city = city;
+        this.zip = zip;
+    }
+}
@@ -0,0 +1,33 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity("arrays")
+public class ArrayHeavy {
+    @Id
+    private ObjectId id;
+    private int[] numbers;
+    private long[] stamps;
+    private List<String> tags = new ArrayList<>();
+    private List<Double> values = new ArrayList<>();
+
+    public ArrayHeavy() {
+    }
+
+    public ArrayHeavy(int size) {
+        id = new ObjectId();
+        numbers = new int[size];
+        stamps = new long[size];
+        for (int i = 0; i < size; i++) {
+            numbers[i] = i;
+            stamps[i] = i * 31L;
+            tags.add("tag-" + i);
+            values.add(i / 3.0);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Embedded;
+
+@Embedded
+public class Circle extends Shape {
+    private double radius;
+
+    public Circle() {
+    }
+
+    public Circle(String color, double radius) {
+        super(color);
+        this.radius = radius;
+    }
+}
@@ -0,0 +1,27 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity("drawings")
+public class Drawing {
+    @Id
+    private ObjectId id;
+    private Shape background;
+    private List<Shape> shapes = new ArrayList<>();
+
+    public Drawing() {
+    }
+
+    public Drawing(int shapeCount) {
+        id = new ObjectId();
+        background = new Square("white", 100);
+        for (int i = 0; i < shapeCount; i++) {
+            shapes.add(i % 2 == 0 ? new Circle("red", i) : new Square("blue", i));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+import java.util.Date;
+
+@Entity("flat")
+public class Flat {
+    @Id
+    private ObjectId id;
+    private String name;
+    private int count;
+    private long total;
+    private double ratio;
+    private boolean active;
+    private Date created;
+
+    public Flat() {
+    }
+
+    public Flat(int index) {
+        id = new ObjectId();
+        name = "flat-" + index;
+        count = index;
+        total = index * 1000L;
+        ratio = index / 7.0;
+        active = index % 2 == 0;
+        created = new Date();
+    }
+}
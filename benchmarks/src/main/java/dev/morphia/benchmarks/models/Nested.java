@@ -0,0 +1,31 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity("nested")
+public class Nested {
+    @Id
+    private ObjectId id;
+    private String name;
+    private Address home;
+    private Address work;
+    private List<Address> previous = new ArrayList<>();
+
+    public Nested() {
+    }
+
+    public Nested(int previousCount) {
+        id = new ObjectId();
+        name = "nested";
+        home = new Address("1 Main St", "Springfield", "12345");
+        work = new Address("100 Industrial Way", "Shelbyville", "12346");
+        for (int i = 0; i < previousCount; i++) {
+            previous.add(new Address(i + " Elm St", "Capital City", "2000" + i));
+        }
+    }
+}
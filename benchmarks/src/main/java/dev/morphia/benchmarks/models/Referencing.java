@@ -0,0 +1,32 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity("referencing")
+public class Referencing {
+    @Id
+    private ObjectId id;
+    private String name;
+    private MorphiaReference<Flat> single;
+    private MorphiaReference<List<Flat>> many;
+
+    public Referencing() {
+    }
+
+    public Referencing(int referenceCount) {
+        id = new ObjectId();
+        name = "referencing";
+        single = MorphiaReference.wrap(new Flat(0));
+        List<Flat> list = new ArrayList<>();
+        for (int i = 0; i < referenceCount; i++) {
+            list.add(new Flat(i));
+        }
+        many = MorphiaReference.wrap(list);
+    }
+}
@@ -0,0 +1,15 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Embedded;
+
+@Embedded
+public abstract class Shape {
+    private String color;
+
+    protected Shape() {
+    }
+
+    protected Shape(String color) {
+        this.color = color;
+    }
+}
@@ -0,0 +1,16 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Embedded;
+
+@Embedded
+public class Square extends Shape {
+    private double side;
+
+    public Square() {
+    }
+
+    public Square(String color, double side) {
+        super(color);
+        this.side = side;
+    }
+}
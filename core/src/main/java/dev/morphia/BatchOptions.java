@@ -0,0 +1,104 @@
+package dev.morphia;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.internal.WriteConfigurable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Options related to finding or deleting entities by id in batches.  The ids are split in to chunks, each sent as one {@code $in}
+ * query, bounded both by a number of ids and by their encoded size.  The setter methods return {@code this} so that a chaining style
+ * can be used.
+ *
+ * @morphia.experimental
+ * @see Datastore#findByIds(Class, java.util.Collection, BatchOptions)
+ * @see Datastore#delete(java.util.Collection, BatchOptions)
+ * @since 2.1
+ */
+public class BatchOptions implements SessionConfigurable<BatchOptions>, WriteConfigurable<BatchOptions> {
+    private WriteConcern writeConcern;
+    private ClientSession clientSession;
+    private int batchSize = 1000;
+    private int maxBatchBytes = 8 * 1024 * 1024;
+    private Executor executor;
+
+    /**
+     * Sets the maximum number of ids sent in one query.  The default is 1000.
+     *
+     * @param batchSize the maximum number of ids
+     * @return this
+     */
+    public BatchOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public BatchOptions clientSession(ClientSession clientSession) {
+        this.clientSession = clientSession;
+        return this;
+    }
+
+    @Override
+    public ClientSession clientSession() {
+        return clientSession;
+    }
+
+    /**
+     * Sets the executor to run the chunks on.  When set, the chunks are sent concurrently.  Chunks are always sent one at a time when
+     * a client session is in use since a session can not be used concurrently.
+     *
+     * @param executor the executor
+     * @return this
+     */
+    public BatchOptions executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of ids sent in one query
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the executor to run the chunks on or null to run them on the calling thread
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return the maximum encoded size in bytes of the ids sent in one query
+     */
+    public int getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    /**
+     * Sets the maximum encoded size in bytes of the ids sent in one query.  The default is 8MB, half of the maximum size of a BSON
+     * document, leaving room for the rest of the command.
+     *
+     * @param maxBatchBytes the maximum size
+     * @return this
+     */
+    public BatchOptions maxBatchBytes(int maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+        return this;
+    }
+
+    @Override
+    public BatchOptions writeConcern(WriteConcern writeConcern) {
+        this.writeConcern = writeConcern;
+        return this;
+    }
+
+    @Override
+    public WriteConcern writeConcern() {
+        return writeConcern;
+    }
+}
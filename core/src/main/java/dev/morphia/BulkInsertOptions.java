@@ -0,0 +1,196 @@
+package dev.morphia;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.result.InsertManyResult;
+import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.internal.WriteConfigurable;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Options related to streaming inserts of entities.  The entities are encoded and sent in batches bounded both by a number of
+ * documents and by their encoded size.  The setter methods return {@code this} so that a chaining style can be used.
+ *
+ * @morphia.experimental
+ * @see Datastore#insert(java.util.Iterator, BulkInsertOptions)
+ * @since 2.1
+ */
+public class BulkInsertOptions implements SessionConfigurable<BulkInsertOptions>, WriteConfigurable<BulkInsertOptions> {
+    private final com.mongodb.client.model.InsertManyOptions options = new com.mongodb.client.model.InsertManyOptions();
+    private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
+    private ClientSession clientSession;
+    private int batchSize = 1000;
+    private int maxBatchBytes = 16 * 1024 * 1024;
+    private int maxEncodedAhead = 2;
+    private Executor encodeExecutor;
+    private Consumer<InsertManyResult> batchListener;
+
+    /**
+     * Sets a listener to notify as each batch is written.  The listener is called on the thread performing the insert.
+     *
+     * @param batchListener the listener
+     * @return this
+     */
+    public BulkInsertOptions batchListener(Consumer<InsertManyResult> batchListener) {
+        this.batchListener = batchListener;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of documents sent in one batch.  The default is 1000.
+     *
+     * @param batchSize the maximum number of documents
+     * @return this
+     */
+    public BulkInsertOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets whether to bypass document validation.
+     *
+     * @param bypassDocumentValidation whether to bypass document validation, or null if unspecified
+     * @return this
+     * @mongodb.server.release 3.2
+     */
+    public BulkInsertOptions bypassDocumentValidation(Boolean bypassDocumentValidation) {
+        options.bypassDocumentValidation(bypassDocumentValidation);
+        return this;
+    }
+
+    @Override
+    public BulkInsertOptions clientSession(ClientSession clientSession) {
+        this.clientSession = clientSession;
+        return this;
+    }
+
+    @Override
+    public ClientSession clientSession() {
+        return clientSession;
+    }
+
+    /**
+     * Sets the executor to encode entities on.  When set, each batch is encoded in parallel on the executor while earlier batches are
+     * being written.  Lifecycle methods and interceptors then run on the executor's threads.  By default entities are encoded on the
+     * thread performing the insert.
+     *
+     * @param encodeExecutor the executor
+     * @return this
+     */
+    public BulkInsertOptions encodeExecutor(Executor encodeExecutor) {
+        this.encodeExecutor = encodeExecutor;
+        return this;
+    }
+
+    /**
+     * @return the listener to notify as each batch is written
+     */
+    public Consumer<InsertManyResult> getBatchListener() {
+        return batchListener;
+    }
+
+    /**
+     * @return the maximum number of documents sent in one batch
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Gets whether to bypass document validation, or null if unspecified.  The default is null.
+     *
+     * @return whether to bypass document validation, or null if unspecified.
+     * @mongodb.server.release 3.2
+     */
+    public Boolean getBypassDocumentValidation() {
+        return options.getBypassDocumentValidation();
+    }
+
+    /**
+     * @return the executor to encode entities on or null to encode on the thread performing the insert
+     */
+    public Executor getEncodeExecutor() {
+        return encodeExecutor;
+    }
+
+    /**
+     * @return the maximum encoded size in bytes of the documents sent in one batch
+     */
+    public int getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    /**
+     * @return the maximum number of batches held encoded, or being encoded, while the insert waits on the write of an earlier batch
+     */
+    public int getMaxEncodedAhead() {
+        return maxEncodedAhead;
+    }
+
+    /**
+     * @return the driver version of this instance
+     */
+    public com.mongodb.client.model.InsertManyOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Gets whether the documents should be inserted in the order provided, stopping on the first failed insertion. The default is true.
+     * If false, the server will attempt to insert all the documents of a batch regardless of any failures.
+     *
+     * @return whether the the documents should be inserted in order
+     */
+    public boolean isOrdered() {
+        return options.isOrdered();
+    }
+
+    /**
+     * Sets the maximum encoded size in bytes of the documents sent in one batch.  The default is 16MB.
+     *
+     * @param maxBatchBytes the maximum size
+     * @return this
+     */
+    public BulkInsertOptions maxBatchBytes(int maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of batches held encoded, or being encoded, while the insert waits on the write of an earlier batch.
+     * Batches are written one at a time, each write waiting for the server's response, so this only overlaps encoding with writing.
+     * It bounds the memory used by the insert.  The default is 2.  This only applies when an
+     * {@link #encodeExecutor(Executor) encode executor} is set.
+     *
+     * @param maxEncodedAhead the maximum number of batches
+     * @return this
+     */
+    public BulkInsertOptions maxEncodedAhead(int maxEncodedAhead) {
+        this.maxEncodedAhead = maxEncodedAhead;
+        return this;
+    }
+
+    /**
+     * Sets whether the server should insert the documents in the order provided.
+     *
+     * @param ordered true if documents should be inserted in order
+     * @return this
+     */
+    public BulkInsertOptions ordered(boolean ordered) {
+        options.ordered(ordered);
+        return this;
+    }
+
+    @Override
+    public BulkInsertOptions writeConcern(WriteConcern writeConcern) {
+        this.writeConcern = writeConcern;
+        return this;
+    }
+
+    @Override
+    public WriteConcern writeConcern() {
+        return writeConcern;
+    }
+}
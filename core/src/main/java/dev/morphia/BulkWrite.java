@@ -0,0 +1,309 @@
+package dev.morphia;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.metrics.MorphiaMetrics.WriteOperation;
+import dev.morphia.query.MorphiaQuery;
+import dev.morphia.query.Query;
+import dev.morphia.query.UpdateException;
+import dev.morphia.query.UpdateTemplate;
+import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects inserts, replacements, updates, and deletes against any number of collections to send them to the server together.
+ * Filters and updates are mapped as they are added just as they are by the equivalent {@link Query} operations.  Entities are
+ * encoded, and their ids generated and lifecycle methods called, as each batch is sent.
+ * <p>
+ * When executed, the operations are grouped in to one bulk write per collection and split in to batches of at most
+ * {@link BulkWriteOptions#batchSize(int)} operations.  Ordered bulk writes only group consecutive operations against the same
+ * collection so that the operations are applied in the order they were added.  A failed batch stops the bulk write and no later
+ * batches are sent.  A bulk write executed with a {@link dev.morphia.experimental.MorphiaSession} runs in that session's transaction.
+ * <pre>
+ * BulkWriteReport report = datastore.bulk()
+ *                                   .insert(order)
+ *                                   .update(datastore.find(Stock.class).filter(eq("_id", sku)), new UpdateOptions(), dec("count"))
+ *                                   .delete(datastore.find(Cart.class).filter(eq("owner", owner)), new DeleteOptions().multi(true))
+ *                                   .execute();
+ * </pre>
+ *
+ * @morphia.experimental
+ * @see Datastore#bulk()
+ * @since 2.1
+ */
+public class BulkWrite {
+    private final DatastoreImpl datastore;
+    private final Mapper mapper;
+    private final List<Operation> operations = new ArrayList<>();
+
+    BulkWrite(DatastoreImpl datastore) {
+        this.datastore = datastore;
+        this.mapper = datastore.getMapper();
+    }
+
+    /**
+     * Adds a delete of an entity by its id and any shard keys
+     *
+     * @param entity the entity to delete
+     * @param <T>    the entity type
+     * @return this
+     */
+    public <T> BulkWrite delete(T entity) {
+        operations.add(new Operation(mapper.getCollection(entity.getClass()), new DeleteOneModel<>(entityFilter(entity))));
+        return this;
+    }
+
+    /**
+     * Adds a delete of the documents matching a query.  Either the first or all matched documents are deleted depending on
+     * {@link DeleteOptions#multi(boolean)}.
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return this
+     */
+    public <T> BulkWrite delete(Query<T> query, DeleteOptions options) {
+        Document filter = query.toDocument();
+        operations.add(new Operation(MorphiaQuery.collection(query), options.isMulti()
+                                                            ? new DeleteManyModel<>(filter, options)
+                                                            : new DeleteOneModel<>(filter, options)));
+        return this;
+    }
+
+    /**
+     * Sends the operations to the server
+     *
+     * @return the combined results
+     */
+    public BulkWriteReport execute() {
+        return execute(new BulkWriteOptions());
+    }
+
+    /**
+     * Sends the operations to the server
+     *
+     * @param options the options to apply
+     * @return the combined results
+     */
+    public BulkWriteReport execute(BulkWriteOptions options) {
+        List<List<Operation>> groups = new ArrayList<>();
+        if (options.isOrdered()) {
+            List<Operation> group = null;
+            for (Operation operation : operations) {
+                if (group == null || !group.get(0).namespace().equals(operation.namespace())) {
+                    group = new ArrayList<>();
+                    groups.add(group);
+                }
+                group.add(operation);
+            }
+        } else {
+            Map<MongoNamespace, List<Operation>> grouped = new LinkedHashMap<>();
+            for (Operation operation : operations) {
+                grouped.computeIfAbsent(operation.namespace(), n -> new ArrayList<>()).add(operation);
+            }
+            groups.addAll(grouped.values());
+        }
+
+        BulkWriteReport report = new BulkWriteReport();
+        ClientSession session = datastore.findSession(options);
+        MorphiaMetrics metrics = mapper.getMetrics();
+        int batchSize = Math.max(options.getBatchSize(), 1);
+        for (List<Operation> group : groups) {
+            MongoCollection<RawBsonDocument> collection = group.get(0).collection.withDocumentClass(RawBsonDocument.class);
+            collection = options.prepare(collection);
+            for (int from = 0; from < group.size(); from += batchSize) {
+                List<Operation> batch = group.subList(from, Math.min(from + batchSize, group.size()));
+                List<WriteModel<RawBsonDocument>> models = new ArrayList<>();
+                for (Operation operation : batch) {
+                    models.add(operation.toModel(options));
+                }
+                long start = metrics != null ? System.nanoTime() : 0;
+                BulkWriteResult result;
+                try {
+                    result = session == null
+                             ? collection.bulkWrite(models, options.getOptions())
+                             : collection.bulkWrite(session, models, options.getOptions());
+                } catch (MongoBulkWriteException e) {
+                    List<Object> duplicates = new ArrayList<>();
+                    for (BulkWriteError error : e.getWriteErrors()) {
+                        if (error.getCategory() == ErrorCategory.DUPLICATE_KEY && batch.get(error.getIndex()).isShardedReplace()) {
+                            duplicates.add(batch.get(error.getIndex()).entity);
+                        }
+                    }
+                    datastore.rejectShardKeyChanges(collection, session, duplicates, e);
+                    throw e;
+                }
+                if (metrics != null) {
+                    metrics.write(collection.getNamespace().getCollectionName(), WriteOperation.BULK, models.size(),
+                        System.nanoTime() - start);
+                }
+                List<Object> upserted = new ArrayList<>();
+                for (BulkWriteUpsert upsert : result.getUpserts()) {
+                    if (batch.get(upsert.getIndex()).isShardedReplace()) {
+                        upserted.add(batch.get(upsert.getIndex()).entity);
+                    }
+                }
+                datastore.rejectShardKeyChanges(collection, session, upserted, null);
+                report.add(result);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Adds an insert of an entity
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return this
+     */
+    public <T> BulkWrite insert(T entity) {
+        if (entity == null) {
+            throw new UpdateException(Sofia.cannotPersistNullEntity());
+        }
+        operations.add(new Operation(mapper.getCollection(entity.getClass()), entity, false));
+        return this;
+    }
+
+    /**
+     * Adds a replacement of an entity by its id and any shard keys, inserting it if it does not exist.  Entities without an id are
+     * inserted.  Versioned entities can only be inserted this way and not replaced since optimistic locking needs the outcome of
+     * each replacement.  Save those entities with {@link Datastore#save(Object)} instead.
+     * <p>
+     * Entities can not be moved between shards this way.  If the shard key of an entity has changed the bulk write fails with an
+     * {@link UpdateException} and no document is left behind for the new shard key.
+     *
+     * @param entity the entity to replace
+     * @param <T>    the entity type
+     * @return this
+     */
+    public <T> BulkWrite replace(T entity) {
+        if (entity == null) {
+            throw new UpdateException(Sofia.cannotPersistNullEntity());
+        }
+        EntityModel model = mapper.getEntityModel(entity.getClass());
+        if (model.getVersionField() != null && model.getVersionField().getValue(entity) != null) {
+            throw new UpdateException(Sofia.bulkVersionedReplace(entity.getClass().getName()));
+        }
+        operations.add(new Operation(mapper.getCollection(entity.getClass()), entity, true));
+        return this;
+    }
+
+    /**
+     * @return the number of operations added
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Adds an update of the documents matching a query.  Either the first or all matched documents are updated depending on
+     * {@link UpdateOptions#multi(boolean)}.
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @param first   the first and required update operator
+     * @param updates lists the set of updates to apply
+     * @param <T>     the entity type
+     * @return this
+     */
+    public <T> BulkWrite update(Query<T> query, UpdateOptions options, UpdateOperator first, UpdateOperator... updates) {
+        Document filter = query.toDocument();
+        Document update = query.update(first, updates).toDocument();
+        operations.add(new Operation(MorphiaQuery.collection(query), options.isMulti()
+                                                            ? new UpdateManyModel<>(filter, update, options)
+                                                            : new UpdateOneModel<>(filter, update, options)));
+        return this;
+    }
+
+    /**
+     * Adds an update from a prepared template
+     *
+     * @param template the template
+     * @param values   the parameter values
+     * @param options  the options to apply
+     * @param <T>      the entity type
+     * @return this
+     * @see UpdateTemplate#toWriteModel(Map, UpdateOptions)
+     */
+    public <T> BulkWrite update(UpdateTemplate<T> template, Map<String, ?> values, UpdateOptions options) {
+        operations.add(new Operation(template.getCollection(), template.toWriteModel(values, options)));
+        return this;
+    }
+
+    private Document entityFilter(Object entity) {
+        Document filter = new Document("_id", mapper.getId(entity));
+        filter.putAll(mapper.getShardKeyValues(entity));
+        return filter;
+    }
+
+    private final class Operation {
+        private final MongoCollection<?> collection;
+        private final WriteModel<?> model;
+        private final Object entity;
+        private final boolean replace;
+        private boolean upsert;
+
+        private Operation(MongoCollection<?> collection, WriteModel<?> model) {
+            this.collection = collection;
+            this.model = model;
+            this.entity = null;
+            this.replace = false;
+        }
+
+        private Operation(MongoCollection<?> collection, Object entity, boolean replace) {
+            this.collection = collection;
+            this.model = null;
+            this.entity = entity;
+            this.replace = replace;
+        }
+
+        private boolean isShardedReplace() {
+            return upsert && mapper.getEntityModel(entity.getClass()).isSharded();
+        }
+
+        private MongoNamespace namespace() {
+            return collection.getNamespace();
+        }
+
+        @SuppressWarnings("unchecked")
+        private WriteModel<RawBsonDocument> toModel(BulkWriteOptions options) {
+            if (model != null) {
+                return (WriteModel<RawBsonDocument>) model;
+            }
+            if (!replace || mapper.getId(entity) == null || mapper.getEntityModel(entity.getClass()).getVersionField() != null) {
+                datastore.setInitialVersion(mapper.getEntityModel(entity.getClass()).getVersionField(), entity);
+                return new InsertOneModel<>(datastore.encode(entity));
+            }
+            upsert = true;
+            return new ReplaceOneModel<>(entityFilter(entity), datastore.encode(entity),
+                new ReplaceOptions()
+                    .bypassDocumentValidation(options.getBypassDocumentValidation())
+                    .upsert(true));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package dev.morphia;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.internal.WriteConfigurable;
+
+/**
+ * The options to apply when executing a {@link BulkWrite}.  The setter methods return {@code this} so that a chaining style can be
+ * used.
+ *
+ * @morphia.experimental
+ * @see BulkWrite#execute(BulkWriteOptions)
+ * @since 2.1
+ */
+public class BulkWriteOptions implements SessionConfigurable<BulkWriteOptions>, WriteConfigurable<BulkWriteOptions> {
+    private final com.mongodb.client.model.BulkWriteOptions options = new com.mongodb.client.model.BulkWriteOptions();
+    private WriteConcern writeConcern;
+    private ClientSession clientSession;
+    private int batchSize = 1000;
+
+    /**
+     * Sets the maximum number of operations sent to the server in one bulk write.  The default is 1000.
+     *
+     * @param batchSize the maximum number of operations
+     * @return this
+     */
+    public BulkWriteOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets whether to bypass document validation.
+     *
+     * @param bypassDocumentValidation whether to bypass document validation, or null if unspecified
+     * @return this
+     * @mongodb.server.release 3.2
+     */
+    public BulkWriteOptions bypassDocumentValidation(Boolean bypassDocumentValidation) {
+        options.bypassDocumentValidation(bypassDocumentValidation);
+        return this;
+    }
+
+    @Override
+    public BulkWriteOptions clientSession(ClientSession clientSession) {
+        this.clientSession = clientSession;
+        return this;
+    }
+
+    @Override
+    public ClientSession clientSession() {
+        return clientSession;
+    }
+
+    /**
+     * @return the maximum number of operations sent to the server in one bulk write
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Gets the the bypass document level validation flag
+     *
+     * @return the bypass document level validation flag
+     */
+    public Boolean getBypassDocumentValidation() {
+        return options.getBypassDocumentValidation();
+    }
+
+    /**
+     * @return the driver version of the options
+     */
+    public com.mongodb.client.model.BulkWriteOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * @return true if the operations are applied in the order given
+     */
+    public boolean isOrdered() {
+        return options.isOrdered();
+    }
+
+    /**
+     * Sets whether the operations are applied in the order given, stopping on the first failure.  The default is true.  When
+     * false, operations are grouped by collection and the server may apply the operations of a bulk write in any order.
+     *
+     * @param ordered true if the operations should be applied in order
+     * @return this
+     */
+    public BulkWriteOptions ordered(boolean ordered) {
+        options.ordered(ordered);
+        return this;
+    }
+
+    @Override
+    public BulkWriteOptions writeConcern(WriteConcern writeConcern) {
+        this.writeConcern = writeConcern;
+        return this;
+    }
+
+    @Override
+    public WriteConcern writeConcern() {
+        return writeConcern;
+    }
+}
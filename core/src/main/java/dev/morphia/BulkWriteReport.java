@@ -0,0 +1,93 @@
+package dev.morphia;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes the outcome of a {@link BulkWrite}.  The counts are summed over every bulk write sent to the server.  Counts are only
+ * available when every write was acknowledged.
+ *
+ * @morphia.experimental
+ * @see BulkWrite#execute(BulkWriteOptions)
+ * @since 2.1
+ */
+public class BulkWriteReport {
+    private final List<BulkWriteResult> results = new ArrayList<>();
+    private boolean acknowledged = true;
+    private int inserted;
+    private int matched;
+    private int modified;
+    private int deleted;
+    private int upserted;
+
+    /**
+     * @return the number of documents deleted
+     */
+    public int getDeletedCount() {
+        return deleted;
+    }
+
+    /**
+     * @return the number of documents inserted, not including upserts
+     */
+    public int getInsertedCount() {
+        return inserted;
+    }
+
+    /**
+     * @return the number of documents matched by updates and replacements
+     */
+    public int getMatchedCount() {
+        return matched;
+    }
+
+    /**
+     * @return the number of documents modified by updates and replacements
+     */
+    public int getModifiedCount() {
+        return modified;
+    }
+
+    /**
+     * @return the results of each bulk write sent to the server in the order they were sent
+     */
+    public List<BulkWriteResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * @return the number of documents upserted
+     */
+    public int getUpsertedCount() {
+        return upserted;
+    }
+
+    /**
+     * @return true if every write was acknowledged
+     */
+    public boolean wasAcknowledged() {
+        return acknowledged;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkWriteReport{inserted=%d, matched=%d, modified=%d, deleted=%d, upserted=%d, acknowledged=%s}",
+            inserted, matched, modified, deleted, upserted, acknowledged);
+    }
+
+    void add(BulkWriteResult result) {
+        results.add(result);
+        if (result.wasAcknowledged()) {
+            inserted += result.getInsertedCount();
+            matched += result.getMatchedCount();
+            modified += result.getModifiedCount();
+            deleted += result.getDeletedCount();
+            upserted += result.getUpserts().size();
+        } else {
+            acknowledged = false;
+        }
+    }
+}
@@ -26,8 +26,12 @@ import dev.morphia.transactions.experimental.MorphiaTransaction;
 import org.bson.Document;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Datastore interface to get/delete/save objects
@@ -55,6 +59,16 @@ public interface Datastore {
      */
     <T> Aggregation<T> aggregate(Class<T> source);
 
+    /**
+     * Starts a bulk write.  Inserts, replacements, updates, and deletes added to the returned builder are sent to the server together
+     * in as few bulk writes as possible when it is executed.
+     *
+     * @return the new bulk write
+     * @morphia.experimental
+     * @since 2.1
+     */
+    BulkWrite bulk();
+
     /**
      * Returns a new query bound to the kind (a specific {@link DBCollection})
      *
@@ -141,6 +155,33 @@ public interface Datastore {
      */
     <T> DeleteResult delete(T entity, DeleteOptions options);
 
+    /**
+     * Deletes the given entities (by @Id)
+     *
+     * @param entities the entities to delete
+     * @param <T>      the type to delete
+     * @return the combined results of the deletes
+     * @morphia.experimental
+     * @see #delete(Collection, BatchOptions)
+     * @since 2.1
+     */
+    default <T> DeleteResult delete(Collection<T> entities) {
+        return delete(entities, new BatchOptions());
+    }
+
+    /**
+     * Deletes the given entities (by @Id).  The entities are grouped by type and by the values of any shard keys so that each delete
+     * can be routed to a single shard.  Each group is deleted with {@code $in} deletes over chunks of its ids.
+     *
+     * @param entities the entities to delete
+     * @param options  the options to apply
+     * @param <T>      the type to delete
+     * @return the combined results of the deletes
+     * @morphia.experimental
+     * @since 2.1
+     */
+    <T> DeleteResult delete(Collection<T> entities, BatchOptions options);
+
     /**
      * Process any {@link Validation} annotations for document validation.
      *
@@ -155,8 +196,10 @@ public interface Datastore {
     void ensureCaps();
 
     /**
-     * Ensures (creating if necessary) the indexes found during class mapping
+     * Ensures (creating if necessary) the indexes found during class mapping.  Only missing indexes are created.
      *
+     * @throws dev.morphia.mapping.MappingException if a mapped index conflicts with an existing index
+     * @see #ensureIndexes(Executor)
      * @see Indexes
      * @see Indexed
      * @see Text
@@ -174,6 +217,21 @@ public interface Datastore {
      */
     <T> void ensureIndexes(Class<T> clazz);
 
+    /**
+     * Ensures the indexes found during class mapping exist.  The existing indexes of each collection are listed first and only the
+     * missing indexes are created, with one command per collection.  Collections are processed concurrently on the given executor.
+     * Mapped indexes which conflict with an existing index of the same name or keys are reported rather than created.
+     *
+     * @param executor the executor to process collections on
+     * @return the report of which indexes were created, already existed, or conflict
+     * @morphia.experimental
+     * @see Indexes
+     * @see Indexed
+     * @see Text
+     * @since 2.1
+     */
+    IndexReport ensureIndexes(Executor executor);
+
     /**
      * Find all instances by type
      *
@@ -203,6 +261,36 @@ public interface Datastore {
      */
     <T> Query<T> find(String collection);
 
+    /**
+     * Finds the entities with the given ids
+     *
+     * @param type the type to find
+     * @param ids  the ids to find
+     * @param <T>  the type to find
+     * @return the entities found in the order of the requested ids
+     * @morphia.experimental
+     * @see #findByIds(Class, Collection, BatchOptions)
+     * @since 2.1
+     */
+    default <T> List<T> findByIds(Class<T> type, Collection<?> ids) {
+        return findByIds(type, ids, new BatchOptions());
+    }
+
+    /**
+     * Finds the entities with the given ids using {@code $in} queries over chunks of the ids.  Each entity is returned once, in the
+     * order its id first appears in the requested ids, and ids with no matching document are skipped.  Since only ids are known,
+     * the queries can not be routed using shard keys.
+     *
+     * @param type    the type to find
+     * @param ids     the ids to find
+     * @param options the options to apply
+     * @param <T>     the type to find
+     * @return the entities found in the order of the requested ids
+     * @morphia.experimental
+     * @since 2.1
+     */
+    <T> List<T> findByIds(Class<T> type, Collection<?> ids, BatchOptions options);
+
     /**
      * Deletes the given entities based on the query (first item only).
      *
@@ -365,6 +453,37 @@ public interface Datastore {
      */
     <T> void insert(List<T> entities, InsertManyOptions options);
 
+    /**
+     * Inserts entities read from an iterator in to their mapped collections.  Entities are consumed, encoded, and written in batches
+     * bounded by {@link BulkInsertOptions#batchSize(int)} and {@link BulkInsertOptions#maxBatchBytes(int)} so only a bounded number of
+     * them are held in memory at a time.  Each batch is written to a single collection so a batch ends early whenever the next entity
+     * is mapped to a different collection.  Ids are generated and lifecycle methods are called as each entity is
+     * encoded just as they are by {@link #insert(List, InsertManyOptions)}.
+     *
+     * @param entities the entities to insert
+     * @param options  the options to apply to the insert operation
+     * @param <T>      the type of the entity
+     * @return the number of entities inserted
+     * @morphia.experimental
+     * @since 2.1
+     */
+    <T> long insert(Iterator<T> entities, BulkInsertOptions options);
+
+    /**
+     * Inserts entities read from a stream in to their mapped collections.  The stream is consumed but not closed.
+     *
+     * @param entities the entities to insert
+     * @param options  the options to apply to the insert operation
+     * @param <T>      the type of the entity
+     * @return the number of entities inserted
+     * @morphia.experimental
+     * @see #insert(Iterator, BulkInsertOptions)
+     * @since 2.1
+     */
+    default <T> long insert(Stream<T> entities, BulkInsertOptions options) {
+        return insert(entities.iterator(), options);
+    }
+
     /**
      * Work as if you did an update with each field in the entity doing a $set; Only at the top level of the entity.
      *
@@ -385,6 +504,19 @@ public interface Datastore {
      */
     <T> T merge(T entity, InsertOneOptions options);
 
+    /**
+     * Work as if you did an update with each field in the entity doing a $set; Only at the top level of the entity.  The update and
+     * the fetch of the merged document are made in one round trip to the server.  The fetch can be skipped via
+     * {@link MergeOptions#returnDocument(boolean)}.
+     *
+     * @param entity  the entity to merge back in to the database
+     * @param options the options to apply
+     * @param <T>     the type of the entity
+     * @return the new merged entity or the entity passed in if the merged document is not returned
+     * @since 2.1
+     */
+    <T> T merge(T entity, MergeOptions options);
+
     /**
      * Work as if you did an update with each field in the entity doing a $set; Only at the top level of the entity.
      *
@@ -418,6 +550,17 @@ public interface Datastore {
      */
     <T> void refresh(T entity);
 
+    /**
+     * Refreshes the existing entities to the current state in the database.  The entities are reloaded in batches using one query
+     * per mapped type rather than one per entity.  Entities whose documents no longer exist are left unchanged.
+     *
+     * @param entities the entities to refresh
+     * @param <T>      the type of the entity
+     * @return the number of entities refreshed
+     * @since 2.1
+     */
+    <T> int refresh(List<T> entities);
+
     /**
      * Saves the entities (Objects) and updates the @Id field
      *
@@ -1,16 +1,21 @@
 package dev.morphia;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.ErrorCategory;
 import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
 import com.mongodb.MongoWriteException;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.CreateCollectionOptions;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.ValidationOptions;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.UpdateResult;
 import dev.morphia.aggregation.experimental.Aggregation;
 import dev.morphia.aggregation.experimental.AggregationImpl;
@@ -24,26 +29,53 @@ import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.metrics.MorphiaMetrics.WriteOperation;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
+import dev.morphia.query.QueryLogger;
+import dev.morphia.query.QueryLogger.LoggedQuery;
 import dev.morphia.query.UpdateException;
 import dev.morphia.query.ValidationException;
+import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.updates.UpdateOperators;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.in;
 import static org.bson.Document.parse;
 
 /**
@@ -54,6 +86,10 @@ import static org.bson.Document.parse;
 @SuppressWarnings({"unchecked", "rawtypes", "removal"})
 public class DatastoreImpl implements AdvancedDatastore {
     private static final Logger LOG = LoggerFactory.getLogger(DatastoreImpl.class);
+    private static final EncoderContext COLLECTIBLE_CONTEXT = EncoderContext.builder()
+                                                                            .isEncodingCollectibleDocument(true)
+                                                                            .build();
+    private static final int ENCODE_CHUNK_SIZE = 64;
 
     private final MongoDatabase database;
     private final MongoClient mongoClient;
@@ -98,6 +134,11 @@ public class DatastoreImpl implements AdvancedDatastore {
         return new AggregationImpl(this, mapper.getCollection(source));
     }
 
+    @Override
+    public BulkWrite bulk() {
+        return new BulkWrite(this);
+    }
+
     @Override
     public dev.morphia.aggregation.AggregationPipeline createAggregation(Class source) {
         return new dev.morphia.aggregation.AggregationPipelineImpl(this, mapper.getCollection(source), source);
@@ -120,9 +161,60 @@ public class DatastoreImpl implements AdvancedDatastore {
         if (entity instanceof Class<?>) {
             throw new MappingException("Did you mean to delete all documents? -- ds.createQuery(???.class).delete()");
         }
-        return find(entity.getClass())
-                   .filter(eq("_id", mapper.getId(entity)))
-                   .delete(options);
+        MorphiaMetrics metrics = mapper.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
+        DeleteResult result = find(entity.getClass())
+                                  .filter(entityFilters(entity, mapper.getId(entity)))
+                                  .delete(options);
+        if (metrics != null) {
+            recordWrite(metrics, mapper.getCollection(entity.getClass()), WriteOperation.DELETE,
+                result.wasAcknowledged() ? result.getDeletedCount() : 0, start);
+        }
+        return result;
+    }
+
+    @Override
+    public <T> DeleteResult delete(Collection<T> entities, BatchOptions options) {
+        Map<Class<?>, Map<Document, List<BsonValue>>> grouped = new LinkedHashMap<>();
+        for (T entity : entities) {
+            grouped.computeIfAbsent(entity.getClass(), type -> new LinkedHashMap<>())
+                   .computeIfAbsent(mapper.getShardKeyValues(entity), keys -> new ArrayList<>())
+                   .add(mapper.toBsonValue(mapper.getId(entity)));
+        }
+
+        ClientSession session = findSession(options);
+        DeleteOptions deleteOptions = new DeleteOptions()
+                                          .multi(true)
+                                          .clientSession(session)
+                                          .writeConcern(options.writeConcern());
+        List<Supplier<DeleteResult>> deletes = new ArrayList<>();
+        for (Entry<Class<?>, Map<Document, List<BsonValue>>> entry : grouped.entrySet()) {
+            for (Entry<Document, List<BsonValue>> shard : entry.getValue().entrySet()) {
+                for (List<BsonValue> chunk : chunk(shard.getValue(), options)) {
+                    deletes.add(() -> {
+                        MorphiaMetrics metrics = mapper.getMetrics();
+                        long start = metrics != null ? System.nanoTime() : 0;
+                        Query<?> query = find(entry.getKey()).filter(in("_id", chunk));
+                        for (Entry<String, Object> key : shard.getKey().entrySet()) {
+                            query.filter(eq(key.getKey(), key.getValue()));
+                        }
+                        DeleteResult result = query.delete(deleteOptions);
+                        recordWrite(metrics, mapper.getCollection(entry.getKey()), WriteOperation.DELETE,
+                            result.wasAcknowledged() ? result.getDeletedCount() : 0, start);
+                        return result;
+                    });
+                }
+            }
+        }
+
+        long deleted = 0;
+        for (DeleteResult result : run(deletes, session == null ? options.getExecutor() : null)) {
+            if (!result.wasAcknowledged()) {
+                return DeleteResult.unacknowledged();
+            }
+            deleted += result.getDeletedCount();
+        }
+        return DeleteResult.acknowledged(deleted);
     }
 
     @Override
@@ -180,21 +272,27 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     @Override
     public void ensureIndexes() {
+        checkConflicts(ensureIndexes(Runnable::run));
+    }
+
+    @Override
+    public <T> void ensureIndexes(Class<T> clazz) {
+        final IndexHelper indexHelper = new IndexHelper(mapper);
+        checkConflicts(indexHelper.ensureIndexes(mapper.getCollection(clazz), List.of(mapper.getEntityModel(clazz))));
+    }
+
+    @Override
+    public IndexReport ensureIndexes(Executor executor) {
         if (mapper.getMappedEntities().isEmpty()) {
             Sofia.logNoMappedClasses();
         }
-        final IndexHelper indexHelper = new IndexHelper(mapper);
+        List<EntityModel> models = new ArrayList<>();
         for (EntityModel model : mapper.getMappedEntities()) {
             if (model.getEntityAnnotation() != null) {
-                indexHelper.createIndex(mapper.getCollection(model.getType()), model);
+                models.add(model);
             }
         }
-    }
-
-    @Override
-    public <T> void ensureIndexes(Class<T> clazz) {
-        final IndexHelper indexHelper = new IndexHelper(mapper);
-        indexHelper.createIndex(mapper.getCollection(clazz), mapper.getEntityModel(clazz));
+        return new IndexHelper(mapper).ensureIndexes(models, executor);
     }
 
     @Override
@@ -217,6 +315,37 @@ public class DatastoreImpl implements AdvancedDatastore {
         return getQueryFactory().createQuery(this, mapper.getClassFromCollection(collection));
     }
 
+    @Override
+    public <T> List<T> findByIds(Class<T> type, Collection<?> ids, BatchOptions options) {
+        Set<BsonValue> requested = new LinkedHashSet<>();
+        for (Object id : ids) {
+            requested.add(mapper.toBsonValue(id));
+        }
+
+        ClientSession session = findSession(options);
+        List<Supplier<List<T>>> queries = new ArrayList<>();
+        for (List<BsonValue> chunk : chunk(new ArrayList<>(requested), options)) {
+            queries.add(() -> find(type).filter(in("_id", chunk))
+                                        .iterator(new FindOptions().clientSession(session))
+                                        .toList());
+        }
+
+        Map<BsonValue, T> found = new HashMap<>();
+        for (List<T> entities : run(queries, session == null ? options.getExecutor() : null)) {
+            for (T entity : entities) {
+                found.put(Mapper.idKey(mapper.toBsonValue(mapper.getId(entity))), entity);
+            }
+        }
+        List<T> results = new ArrayList<>(found.size());
+        for (BsonValue id : requested) {
+            T entity = found.get(Mapper.idKey(id));
+            if (entity != null) {
+                results.add(entity);
+            }
+        }
+        return results;
+    }
+
     @Override
     public ClientSession findSession(SessionConfigurable<?> configurable) {
         return configurable.clientSession() != null
@@ -241,26 +370,56 @@ public class DatastoreImpl implements AdvancedDatastore {
     @Override
     public String getLoggedQuery(FindOptions options) {
         if (options != null && options.isLogQuery()) {
-            String json = "{}";
-            Document first = getDatabase()
-                                 .getCollection("system.profile")
-                                 .find(new Document("command.comment", "logged query: " + options.getQueryLogId()),
-                                     Document.class)
-                                 .projection(new Document("command.filter", 1))
-                                 .first();
-            if (first != null) {
-                Document command = (Document) first.get("command");
-                Document filter = (Document) command.get("filter");
-                if (filter != null) {
-                    json = filter.toJson(mapper.getCodecRegistry().get(Document.class));
+            QueryLogger queryLogger = mapper.getQueryLogger();
+            Document filter = null;
+            if (queryLogger != null) {
+                LoggedQuery loggedQuery = queryLogger.getLoggedQuery(options);
+                if (loggedQuery != null && loggedQuery.getFilter() != null) {
+                    filter = mapper.getCodecRegistry().get(Document.class)
+                                   .decode(new BsonDocumentReader(loggedQuery.getFilter()), DecoderContext.builder().build());
+                }
+            } else {
+                Document first = getDatabase()
+                                     .getCollection("system.profile")
+                                     .find(new Document("command.comment", Sofia.loggedQuery(options.getQueryLogId())),
+                                         Document.class)
+                                     .projection(new Document("command.filter", 1))
+                                     .first();
+                if (first != null) {
+                    filter = (Document) ((Document) first.get("command")).get("filter");
                 }
             }
-            return json;
+            return filter != null ? filter.toJson(mapper.getCodecRegistry().get(Document.class)) : "{}";
         } else {
             throw new IllegalStateException(Sofia.queryNotLogged());
         }
     }
 
+    /**
+     * Runs a query operation.  When the query is to be logged and no {@link QueryLogger} is registered, the database profiler is
+     * turned on around the operation so that {@link #getLoggedQuery(FindOptions)} can read the query back, and the previous
+     * profiling level is restored afterwards.
+     *
+     * @param options   the options of the query
+     * @param operation the operation to run
+     * @param <V>       the type of the result
+     * @return the result of the operation
+     * @morphia.internal
+     */
+    public <V> V profileLoggedQuery(FindOptions options, Supplier<V> operation) {
+        if (!options.isLogQuery() || mapper.getQueryLogger() != null) {
+            return operation.get();
+        }
+        Document oldProfile = getDatabase().runCommand(new Document("profile", 2).append("slowms", 0));
+        try {
+            return operation.get();
+        } finally {
+            getDatabase().runCommand(new Document("profile", oldProfile.get("was"))
+                                         .append("slowms", oldProfile.get("slowms"))
+                                         .append("sampleRate", oldProfile.get("sampleRate")));
+        }
+    }
+
     /**
      * @return the Mapper used by this Datastore
      */
@@ -276,31 +435,62 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     @Override
     public <T> T merge(T entity) {
-        return merge(entity, new InsertOneOptions());
+        return merge(entity, new MergeOptions());
     }
 
     @Override
     public <T> T merge(T entity, InsertOneOptions options) {
+        return merge(entity, new MergeOptions(options));
+    }
+
+    @Override
+    public <T> T merge(T entity, MergeOptions options) {
         final Object id = mapper.getId(entity);
         if (id == null) {
             throw new MappingException("Could not get id for " + entity.getClass().getName());
         }
 
-        final Document document = mapper.toDocument(entity);
-        document.remove("_id");
+        final FieldModel versionField = mapper.getEntityModel(entity.getClass()).getVersionField();
+        final Long oldVersion = versionField != null ? (Long) versionField.getValue(entity) : null;
+        if (versionField != null && oldVersion == null) {
+            tryVersionedUpdate(entity, mapper.getCollection(entity.getClass()), new InsertOneOptions()
+                                                                                    .clientSession(options.clientSession())
+                                                                                    .writeConcern(options.writeConcern()));
+            return entity;
+        }
 
-        final Query<T> query = (Query<T>) find(entity.getClass()).filter(eq("_id", id));
-        if (!tryVersionedUpdate(entity, mapper.getCollection(entity.getClass()), options)) {
-            UpdateResult execute = query.update(UpdateOperators.set(entity))
-                                        .execute(new UpdateOptions()
-                                                     .clientSession(findSession(options))
-                                                     .writeConcern(options.writeConcern()));
-            if (execute.getModifiedCount() != 1) {
-                throw new UpdateException("Nothing updated");
-            }
+        final Query<T> query = (Query<T>) find(entity.getClass()).filter(entityFilters(entity, id));
+        if (oldVersion != null) {
+            query.filter(eq(versionField.getMappedName(), oldVersion));
         }
 
-        return query.first();
+        T merged;
+        boolean matched;
+        if (options.isReturnDocument()) {
+            merged = query.modify(UpdateOperators.set(entity))
+                          .execute(new ModifyOptions()
+                                       .returnDocument(ReturnDocument.AFTER)
+                                       .clientSession(findSession(options))
+                                       .writeConcern(options.writeConcern()));
+            matched = merged != null;
+        } else {
+            merged = entity;
+            matched = query.update(UpdateOperators.set(entity))
+                           .execute(new UpdateOptions()
+                                        .clientSession(findSession(options))
+                                        .writeConcern(options.writeConcern()))
+                           .getMatchedCount() == 1;
+        }
+        if (!matched) {
+            if (oldVersion != null) {
+                throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(), id));
+            }
+            throw new UpdateException("Nothing updated");
+        }
+        if (oldVersion != null) {
+            updateVersion(entity, versionField, oldVersion + 1);
+        }
+        return merged;
     }
 
     @Override
@@ -327,20 +517,71 @@ public class DatastoreImpl implements AdvancedDatastore {
                 }
             }
 
+            MorphiaMetrics metrics = mapper.getMetrics();
+            long start = metrics != null ? System.nanoTime() : 0;
             MongoCollection mongoCollection = options.prepare(collection);
             if (options.clientSession() == null) {
                 mongoCollection.insertMany(entities, options.getOptions());
             } else {
                 mongoCollection.insertMany(options.clientSession(), entities, options.getOptions());
             }
+            recordWrite(metrics, collection, WriteOperation.INSERT, entities.size(), start);
         }
     }
 
+    @Override
+    public <T> long insert(Iterator<T> entities, BulkInsertOptions options) {
+        Executor executor = options.getEncodeExecutor();
+        int ahead = executor != null ? Math.max(options.getMaxEncodedAhead(), 1) : 1;
+        Deque<CompletableFuture<List<RawBsonDocument>>> encoding = new ArrayDeque<>();
+        Deque<MongoCollection<RawBsonDocument>> collections = new ArrayDeque<>();
+        Class<?> type = null;
+        MongoCollection<RawBsonDocument> collection = null;
+        T pending = null;
+        long inserted = 0;
+        try {
+            while (pending != null || entities.hasNext() || !encoding.isEmpty()) {
+                while (encoding.size() < ahead && (pending != null || entities.hasNext())) {
+                    // a batch is written to a single collection so it ends early when the next entity maps to another one
+                    MongoCollection<RawBsonDocument> batchCollection = null;
+                    List<T> batch = new ArrayList<>();
+                    do {
+                        T entity = pending != null ? pending : entities.next();
+                        pending = null;
+                        if (entity.getClass() != type) {
+                            type = entity.getClass();
+                            collection = mapper.getCollection(type).withDocumentClass(RawBsonDocument.class);
+                        }
+                        if (batchCollection == null) {
+                            batchCollection = collection;
+                        } else if (!batchCollection.getNamespace().equals(collection.getNamespace())) {
+                            pending = entity;
+                            break;
+                        }
+                        setInitialVersion(mapper.getEntityModel(type).getVersionField(), entity);
+                        batch.add(entity);
+                    } while (batch.size() < options.getBatchSize() && entities.hasNext());
+                    encoding.add(encode(batch, executor));
+                    collections.add(batchCollection);
+                }
+                inserted += insert(collections.removeFirst(), join(encoding.removeFirst()), options);
+            }
+        } finally {
+            encoding.forEach(future -> future.cancel(false));
+        }
+        return inserted;
+    }
+
     @Override
     public <T> void refresh(T entity) {
         getMapper().refresh(entity);
     }
 
+    @Override
+    public <T> int refresh(List<T> entities) {
+        return getMapper().refresh(entities);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> save(List<T> entities, InsertManyOptions options) {
@@ -360,13 +601,16 @@ public class DatastoreImpl implements AdvancedDatastore {
             }
         }
 
+        MorphiaMetrics metrics = mapper.getMetrics();
         for (Entry<MongoCollection, List<T>> entry : grouped.entrySet()) {
+            long start = metrics != null ? System.nanoTime() : 0;
             MongoCollection<T> collection = entry.getKey(); // options.prepare(mapper.getCollection(entry.getKey()));
             if (options.clientSession() == null) {
                 collection.insertMany(entry.getValue(), options.getOptions());
             } else {
                 collection.insertMany(options.clientSession(), entry.getValue(), options.getOptions());
             }
+            recordWrite(metrics, collection, WriteOperation.SAVE, entry.getValue().size(), start);
         }
 
         InsertOneOptions insertOneOptions = new InsertOneOptions()
@@ -443,6 +687,8 @@ public class DatastoreImpl implements AdvancedDatastore {
     }
 
     protected <T> void insert(MongoCollection collection, T entity, InsertOneOptions options) {
+        MorphiaMetrics metrics = mapper.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
         setInitialVersion(mapper.getEntityModel(entity.getClass()).getVersionField(), entity);
         MongoCollection mongoCollection = mapper.enforceWriteConcern(collection, entity.getClass());
         ClientSession clientSession = findSession(options);
@@ -451,6 +697,7 @@ public class DatastoreImpl implements AdvancedDatastore {
         } else {
             mongoCollection.insertOne(clientSession, entity, options.getOptions());
         }
+        recordWrite(metrics, collection, WriteOperation.INSERT, 1, start);
     }
 
     protected <T> void saveDocument(T entity, MongoCollection<T> collection, InsertOneOptions options) {
@@ -464,21 +711,128 @@ public class DatastoreImpl implements AdvancedDatastore {
                 options.prepare(collection).insertOne(clientSession, entity, options.getOptions());
             }
         } else {
-            ReplaceOptions updateOptions = new ReplaceOptions()
-                                               .bypassDocumentValidation(options.getBypassDocumentValidation())
-                                               .upsert(true);
             MongoCollection<T> updated = collection;
             if (options.writeConcern() != null) {
                 updated = collection.withWriteConcern(options.writeConcern());
             }
-            if (clientSession == null) {
-                updated.replaceOne(new Document("_id", id), entity, updateOptions);
+            Document filter = new Document("_id", id);
+            filter.putAll(mapper.getShardKeyValues(entity));
+            ReplaceOptions replaceOptions = new ReplaceOptions()
+                                                .bypassDocumentValidation(options.getBypassDocumentValidation())
+                                                .upsert(true);
+            boolean sharded = mapper.getEntityModel(entity.getClass()).isSharded();
+            try {
+                UpdateResult result = clientSession == null
+                                      ? updated.replaceOne(filter, entity, replaceOptions)
+                                      : updated.replaceOne(clientSession, filter, entity, replaceOptions);
+                if (sharded && result.getUpsertedId() != null) {
+                    rejectShardKeyChanges(updated, clientSession, List.of(entity), null);
+                }
+            } catch (MongoWriteException e) {
+                if (sharded && e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                    rejectShardKeyChanges(updated, clientSession, List.of(entity), e);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Rejects replacements of sharded entities whose shard key has changed.  A replacement filters on the id and the shard key
+     * values so it does not match the stored document of such an entity and its upsert inserts a second document with the same id
+     * instead.  That insert either fails on the unique id index or, when the two documents belong to different shards, succeeds.
+     * Any document inserted this way is deleted again before the change is reported.
+     *
+     * @param collection the collection written to
+     * @param session    the session written in or null
+     * @param entities   the entities whose replacements upserted, or failed with a duplicate key error
+     * @param cause      the duplicate key error or null if the replacements upserted
+     * @throws UpdateException if the shard key of any of the entities changed
+     */
+    void rejectShardKeyChanges(MongoCollection<?> collection, ClientSession session, List<?> entities, MongoException cause) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        MongoCollection<BsonDocument> documents = collection.withDocumentClass(BsonDocument.class);
+        List<Object> ids = new ArrayList<>();
+        for (Object entity : entities) {
+            ids.add(mapper.getId(entity));
+        }
+        Document filter = new Document("_id", new Document("$in", ids));
+        Map<BsonValue, Integer> stored = new HashMap<>();
+        try (MongoCursor<BsonDocument> cursor = (session == null ? documents.find(filter) : documents.find(session, filter))
+                                                    .projection(new Document("_id", 1))
+                                                    .iterator()) {
+            while (cursor.hasNext()) {
+                stored.merge(Mapper.idKey(cursor.next().get("_id")), 1, Integer::sum);
+            }
+        }
+
+        List<Object> changed = new ArrayList<>();
+        for (Object entity : entities) {
+            if (stored.getOrDefault(Mapper.idKey(mapper.toBsonValue(mapper.getId(entity))), 0) > (cause == null ? 1 : 0)) {
+                changed.add(entity);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        if (cause == null) {
+            for (Object entity : changed) {
+                Document inserted = new Document("_id", mapper.getId(entity));
+                inserted.putAll(mapper.getShardKeyValues(entity));
+                if (session == null) {
+                    documents.deleteOne(inserted);
+                } else {
+                    documents.deleteOne(session, inserted);
+                }
+            }
+        }
+        Object entity = changed.get(0);
+        throw new UpdateException(Sofia.shardKeyChanged(entity.getClass().getName(), mapper.getId(entity)), cause);
+    }
+
+    /**
+     * Encodes an entity as a collectible document generating its id if needed
+     *
+     * @param entity the entity to encode
+     * @return the encoded entity
+     */
+    <T> RawBsonDocument encode(T entity) {
+        Codec<T> codec = (Codec<T>) mapper.getCodecRegistry().get(entity.getClass());
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, entity, COLLECTIBLE_CONTEXT);
+        }
+        return new RawBsonDocument(buffer.toByteArray());
+    }
+
+    /**
+     * Sets the version of a new entity
+     *
+     * @param versionField the version field or null if the entity is not versioned
+     * @param entity       the entity
+     */
+    <T> void setInitialVersion(FieldModel versionField, T entity) {
+        if (versionField != null) {
+            Object value = versionField.getValue(entity);
+            if (value != null && !value.equals(0)) {
+                throw new ValidationException(Sofia.versionManuallySet());
             } else {
-                updated.replaceOne(clientSession, new Document("_id", id), entity, updateOptions);
+                versionField.setValue(entity, 1L);
             }
         }
     }
 
+    private Filter[] entityFilters(Object entity, Object id) {
+        List<Filter> filters = new ArrayList<>();
+        filters.add(eq("_id", id));
+        for (Entry<String, Object> entry : mapper.getShardKeyValues(entity).entrySet()) {
+            filters.add(eq(entry.getKey(), entry.getValue()));
+        }
+        return filters.toArray(new Filter[0]);
+    }
+
     private <T> T doTransaction(MorphiaSession morphiaSession, MorphiaTransaction<T> body) {
         try (morphiaSession) {
             return morphiaSession.getSession().withTransaction(() -> body.execute(morphiaSession));
@@ -515,25 +869,157 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
     }
 
+    /**
+     * Splits ids in to chunks bounded by the configured number of ids and their approximate encoded size
+     */
+    private List<List<BsonValue>> chunk(List<BsonValue> ids, BatchOptions options) {
+        List<List<BsonValue>> chunks = new ArrayList<>();
+        List<BsonValue> chunk = new ArrayList<>();
+        long bytes = 0;
+        for (BsonValue id : ids) {
+            int size = encodedSize(id);
+            if (!chunk.isEmpty() && (chunk.size() >= options.getBatchSize() || bytes + size > options.getMaxBatchBytes())) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                bytes = 0;
+            }
+            chunk.add(id);
+            bytes += size;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private void checkConflicts(IndexReport report) {
+        if (report.hasConflicts()) {
+            throw new MappingException(Sofia.indexConflicts(report.getConflicts()));
+        }
+    }
+
+    /**
+     * Estimates the size of an id as an element of an array.  Strings are assumed to need up to three bytes per character.
+     */
+    private int encodedSize(BsonValue id) {
+        if (id.isString()) {
+            return id.asString().getValue().length() * 3 + 16;
+        } else if (id.isBinary()) {
+            return id.asBinary().getData().length + 16;
+        } else if (id.isDocument()) {
+            return new RawBsonDocument(id.asDocument(), new BsonDocumentCodec()).getByteBuffer().remaining() + 8;
+        }
+        return 32;
+    }
+
+    private <T> CompletableFuture<List<RawBsonDocument>> encode(List<T> entities, Executor executor) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(encode(entities));
+        }
+        List<CompletableFuture<List<RawBsonDocument>>> parts = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i += ENCODE_CHUNK_SIZE) {
+            List<T> part = entities.subList(i, Math.min(i + ENCODE_CHUNK_SIZE, entities.size()));
+            parts.add(CompletableFuture.supplyAsync(() -> encode(part), executor));
+        }
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                                .thenApply(v -> {
+                                    List<RawBsonDocument> documents = new ArrayList<>(entities.size());
+                                    parts.forEach(part -> documents.addAll(part.join()));
+                                    return documents;
+                                });
+    }
+
+    private <T> List<RawBsonDocument> encode(List<T> entities) {
+        List<RawBsonDocument> documents = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            documents.add(encode(entity));
+        }
+        return documents;
+    }
+
+    /**
+     * Writes encoded entities splitting them in to batches no larger than the configured size in bytes
+     */
+    private long insert(MongoCollection<RawBsonDocument> collection, List<RawBsonDocument> documents, BulkInsertOptions options) {
+        MongoCollection<RawBsonDocument> prepared = options.prepare(collection);
+        ClientSession clientSession = findSession(options);
+        MorphiaMetrics metrics = mapper.getMetrics();
+        int from = 0;
+        while (from < documents.size()) {
+            int to = from + 1;
+            long bytes = documents.get(from).getByteBuffer().remaining();
+            while (to < documents.size()) {
+                bytes += documents.get(to).getByteBuffer().remaining();
+                if (bytes > options.getMaxBatchBytes()) {
+                    break;
+                }
+                to++;
+            }
+            List<RawBsonDocument> batch = documents.subList(from, to);
+            long start = metrics != null ? System.nanoTime() : 0;
+            InsertManyResult result = clientSession == null
+                                      ? prepared.insertMany(batch, options.getOptions())
+                                      : prepared.insertMany(clientSession, batch, options.getOptions());
+            recordWrite(metrics, collection, WriteOperation.INSERT, batch.size(), start);
+            if (options.getBatchListener() != null) {
+                options.getBatchListener().accept(result);
+            }
+            from = to;
+        }
+        return documents.size();
+    }
+
+    private <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void recordWrite(MorphiaMetrics metrics, MongoCollection<?> collection, WriteOperation operation, long count,
+                             long start) {
+        if (metrics != null) {
+            metrics.write(collection.getNamespace().getCollectionName(), operation, count, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs the tasks on the executor, if given, or in turn on the calling thread
+     */
+    private <V> List<V> run(List<Supplier<V>> tasks, Executor executor) {
+        List<V> results = new ArrayList<>(tasks.size());
+        if (executor == null) {
+            for (Supplier<V> task : tasks) {
+                results.add(task.get());
+            }
+        } else {
+            List<CompletableFuture<V>> futures = new ArrayList<>(tasks.size());
+            for (Supplier<V> task : tasks) {
+                futures.add(CompletableFuture.supplyAsync(task, executor));
+            }
+            join(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])));
+            for (CompletableFuture<V> future : futures) {
+                results.add(future.join());
+            }
+        }
+        return results;
+    }
+
     private <T> void save(MongoCollection collection, T entity, InsertOneOptions options) {
         if (entity == null) {
             throw new UpdateException(Sofia.cannotPersistNullEntity());
         }
 
+        MorphiaMetrics metrics = mapper.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
         if (!tryVersionedUpdate(entity, collection, options)) {
             saveDocument(entity, collection, options);
         }
-    }
-
-    private <T> void setInitialVersion(FieldModel versionField, T entity) {
-        if (versionField != null) {
-            Object value = versionField.getValue(entity);
-            if (value != null && !value.equals(0)) {
-                throw new ValidationException(Sofia.versionManuallySet());
-            } else {
-                versionField.setValue(entity, 1L);
-            }
-        }
+        recordWrite(metrics, collection, WriteOperation.SAVE, 1, start);
     }
 
     private <T> boolean tryVersionedUpdate(T entity, MongoCollection collection, InsertOneOptions options) {
@@ -563,9 +1049,10 @@ public class DatastoreImpl implements AdvancedDatastore {
                 throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(), idValue));
             }
         } else if (idValue != null) {
+            Filter[] filters = entityFilters(entity, idValue);
             final UpdateResult res = find(collection.getNamespace().getCollectionName())
-                                         .filter(eq("_id", idValue),
-                                             eq(versionField.getMappedName(), oldVersion))
+                                         .filter(filters)
+                                         .filter(eq(versionField.getMappedName(), oldVersion))
                                          .update(UpdateOperators.set(entity))
                                          .execute(new UpdateOptions()
                                                       .bypassDocumentValidation(options.getBypassDocumentValidation())
@@ -17,6 +17,7 @@
 package dev.morphia;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
 import dev.morphia.annotations.Collation;
 import dev.morphia.annotations.Field;
 import dev.morphia.annotations.Index;
@@ -25,6 +26,7 @@ import dev.morphia.annotations.Indexed;
 import dev.morphia.annotations.Indexes;
 import dev.morphia.annotations.Text;
 import dev.morphia.internal.PathTarget;
+import dev.morphia.jfr.EnsureIndexesEvent;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
@@ -36,8 +38,20 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -120,6 +134,114 @@ public final class IndexHelper {
         return list;
     }
 
+    private static Document findByKeys(Collection<Document> indexes, Document keys) {
+        for (Document index : indexes) {
+            if (sameKeys(index.get("key", Document.class), keys)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generates the name the server would give an index with these keys
+     */
+    private static String generateName(Document keys) {
+        StringJoiner name = new StringJoiner("_");
+        for (Entry<String, Object> entry : keys.entrySet()) {
+            Object value = entry.getValue();
+            name.add(entry.getKey() + "_" + (value instanceof Number ? String.valueOf(((Number) value).intValue())
+                                                                      : value.toString().replace(' ', '_')));
+        }
+        return name.toString();
+    }
+
+    private static boolean isText(Document keys) {
+        return keys.containsValue(IndexType.TEXT.toIndexValue());
+    }
+
+    private static boolean matches(Document current, Document keys, com.mongodb.client.model.IndexOptions options) {
+        Number expireAfter = current.get("expireAfterSeconds", Number.class);
+        Long expected = options.getExpireAfter(TimeUnit.SECONDS);
+        return (isText(keys) || sameKeys(current.get("key", Document.class), keys))
+               && current.getBoolean("unique", false) == options.isUnique()
+               && current.getBoolean("sparse", false) == options.isSparse()
+               && Objects.equals(expireAfter != null ? expireAfter.longValue() : null, expected)
+               && Objects.equals(current.get("partialFilterExpression"), options.getPartialFilterExpression())
+               && sameCollation(current.get("collation", Document.class), options.getCollation())
+               && (!isText(keys) || sameTextOptions(current, keys, options));
+    }
+
+    /**
+     * Compares collations.  The server reports every collation option, including the defaults, so only the options requested are
+     * compared.
+     */
+    private static boolean sameCollation(Document existing, com.mongodb.client.model.Collation collation) {
+        if (collation == null) {
+            return existing == null || "simple".equals(existing.getString("locale"));
+        }
+        if (existing == null) {
+            return false;
+        }
+        for (Entry<String, Object> entry : Document.parse(collation.asDocument().toJson()).entrySet()) {
+            if (!sameValue(entry.getValue(), existing.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares index keys in order.  Numeric directions are compared by value as the server may report them as doubles.
+     */
+    private static boolean sameKeys(Document existing, Document keys) {
+        if (existing == null || existing.size() != keys.size()) {
+            return false;
+        }
+        Iterator<Entry<String, Object>> iterator = existing.entrySet().iterator();
+        for (Entry<String, Object> entry : keys.entrySet()) {
+            Entry<String, Object> other = iterator.next();
+            if (!entry.getKey().equals(other.getKey()) || !sameValue(entry.getValue(), other.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares the weights and languages of text indexes.  The server reports a weight of 1 for every text field not given one.
+     */
+    private static boolean sameTextOptions(Document current, Document keys, com.mongodb.client.model.IndexOptions options) {
+        Document weights = new Document();
+        for (Entry<String, Object> entry : keys.entrySet()) {
+            if (IndexType.TEXT.toIndexValue().equals(entry.getValue())) {
+                weights.put(entry.getKey(), 1);
+            }
+        }
+        if (options.getWeights() != null) {
+            weights.putAll((Document) options.getWeights());
+        }
+        Document existing = current.get("weights", Document.class);
+        if (existing == null || existing.size() != weights.size()) {
+            return false;
+        }
+        for (Entry<String, Object> entry : weights.entrySet()) {
+            if (!sameValue(entry.getValue(), existing.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return Objects.equals(current.get("default_language", "english"),
+            options.getDefaultLanguage() != null ? options.getDefaultLanguage() : "english")
+               && Objects.equals(current.get("language_override", "language"),
+            options.getLanguageOverride() != null ? options.getLanguageOverride() : "language");
+    }
+
+    private static boolean sameValue(Object value, Object other) {
+        return value instanceof Number && other instanceof Number
+               ? ((Number) value).doubleValue() == ((Number) other).doubleValue()
+               : Objects.equals(value, other);
+    }
+
     private Index replaceFields(Index original, List<Field> list) {
         return new IndexBuilder(original)
                    .fields(list);
@@ -207,19 +329,108 @@ public final class IndexHelper {
     }
 
     void createIndex(MongoCollection<?> collection, EntityModel model) {
-        if (!model.isInterface() && !model.isAbstract()) {
-            for (Index index : collectIndexes(model, Collections.emptyList())) {
-                createIndex(collection, model, index);
+        ensureIndexes(collection, List.of(model));
+    }
+
+    void createIndex(MongoCollection<?> collection, EntityModel entityModel, Index index) {
+        ensureIndexes(collection, Map.of(entityModel, List.of(index)));
+    }
+
+    /**
+     * Ensures the indexes of the given models exist.  The collections are processed concurrently on the executor.  Each collection's
+     * existing indexes are listed once and only the missing indexes are created, all with a single {@code createIndexes} command.
+     */
+    IndexReport ensureIndexes(List<EntityModel> models, Executor executor) {
+        Map<String, List<EntityModel>> byCollection = new LinkedHashMap<>();
+        for (EntityModel model : models) {
+            if (!model.isInterface() && !model.isAbstract()) {
+                byCollection.computeIfAbsent(model.getCollectionName(), name -> new ArrayList<>())
+                            .add(model);
             }
         }
+        List<CompletableFuture<IndexReport>> futures = new ArrayList<>();
+        for (List<EntityModel> collectionModels : byCollection.values()) {
+            MongoCollection<?> collection = mapper.getCollection(collectionModels.get(0).getType());
+            futures.add(CompletableFuture.supplyAsync(() -> ensureIndexes(collection, collectionModels), executor));
+        }
+
+        IndexReport report = new IndexReport();
+        for (CompletableFuture<IndexReport> future : futures) {
+            try {
+                report.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return report;
     }
 
-    void createIndex(MongoCollection<?> collection, EntityModel entityModel, Index index) {
-        Document keys = calculateKeys(entityModel, index);
-        com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
-        calculateWeights(index, indexOptions);
+    IndexReport ensureIndexes(MongoCollection<?> collection, List<EntityModel> models) {
+        Map<EntityModel, List<Index>> indexes = new LinkedHashMap<>();
+        for (EntityModel model : models) {
+            if (!model.isInterface() && !model.isAbstract()) {
+                indexes.put(model, collectIndexes(model, Collections.emptyList()));
+            }
+        }
+        return ensureIndexes(collection, indexes);
+    }
+
+    /**
+     * Ensures the given indexes exist.  Each index is mapped against the model it is paired with.
+     */
+    private IndexReport ensureIndexes(MongoCollection<?> collection, Map<EntityModel, List<Index>> indexes) {
+        IndexReport report = new IndexReport();
+        if (indexes.isEmpty()) {
+            return report;
+        }
+        String collectionName = collection.getNamespace().getCollectionName();
+        EnsureIndexesEvent event = new EnsureIndexesEvent();
+        event.begin();
+        Map<String, Document> existing = new LinkedHashMap<>();
+        for (Document index : collection.listIndexes()) {
+            existing.put(index.getString("name"), index);
+        }
+
+        Set<String> seen = new HashSet<>();
+        List<IndexModel> missing = new ArrayList<>();
+        for (Entry<EntityModel, List<Index>> entry : indexes.entrySet()) {
+            EntityModel model = entry.getKey();
+            for (Index index : entry.getValue()) {
+                Document keys = calculateKeys(model, index);
+                com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
+                calculateWeights(index, indexOptions);
+                String name = indexOptions.getName() != null ? indexOptions.getName() : generateName(keys);
+                if (!seen.add(name)) {
+                    continue;
+                }
 
-        collection.createIndex(keys, indexOptions);
+                Document current = existing.get(name);
+                if (current == null) {
+                    current = isText(keys) ? null : findByKeys(existing.values(), keys);
+                    if (current != null) {
+                        report.conflict(collectionName, name, keys, current);
+                    } else {
+                        missing.add(new IndexModel(keys, indexOptions.name(name)));
+                        report.created(collectionName, name, keys);
+                    }
+                } else if (matches(current, keys, indexOptions)) {
+                    report.unchanged(collectionName, name, keys, current);
+                } else {
+                    report.conflict(collectionName, name, keys, current);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            collection.createIndexes(missing);
+        }
+        if (event.shouldCommit()) {
+            event.indexed(collectionName, indexes.keySet().iterator().next().getType(), missing.size());
+            event.commit();
+        }
+        return report;
     }
 
     String findField(EntityModel entityModel, IndexOptions options, String path) {
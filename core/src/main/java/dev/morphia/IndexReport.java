@@ -0,0 +1,122 @@
+package dev.morphia;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes the outcome of ensuring the mapped indexes exist.  Each mapped index is either created, found unchanged, or found to
+ * conflict with an existing index of the same name or keys.  Conflicting indexes are left as they are on the server.
+ *
+ * @morphia.experimental
+ * @see Datastore#ensureIndexes(java.util.concurrent.Executor)
+ * @since 2.1
+ */
+public class IndexReport {
+    private final List<IndexResult> created = new ArrayList<>();
+    private final List<IndexResult> unchanged = new ArrayList<>();
+    private final List<IndexResult> conflicts = new ArrayList<>();
+
+    /**
+     * @return the indexes which conflict with an existing index
+     */
+    public List<IndexResult> getConflicts() {
+        return Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * @return the indexes which were created
+     */
+    public List<IndexResult> getCreated() {
+        return Collections.unmodifiableList(created);
+    }
+
+    /**
+     * @return the indexes which already existed as mapped
+     */
+    public List<IndexResult> getUnchanged() {
+        return Collections.unmodifiableList(unchanged);
+    }
+
+    /**
+     * @return true if any mapped index conflicts with an existing index
+     */
+    public boolean hasConflicts() {
+        return !conflicts.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IndexReport{created=%s, unchanged=%s, conflicts=%s}", created, unchanged, conflicts);
+    }
+
+    void add(IndexReport other) {
+        created.addAll(other.created);
+        unchanged.addAll(other.unchanged);
+        conflicts.addAll(other.conflicts);
+    }
+
+    void conflict(String collection, String name, Document keys, Document existing) {
+        conflicts.add(new IndexResult(collection, name, keys, existing));
+    }
+
+    void created(String collection, String name, Document keys) {
+        created.add(new IndexResult(collection, name, keys, null));
+    }
+
+    void unchanged(String collection, String name, Document keys, Document existing) {
+        unchanged.add(new IndexResult(collection, name, keys, existing));
+    }
+
+    /**
+     * A single mapped index
+     */
+    public static final class IndexResult {
+        private final String collection;
+        private final String name;
+        private final Document keys;
+        private final Document existing;
+
+        IndexResult(String collection, String name, Document keys, Document existing) {
+            this.collection = collection;
+            this.name = name;
+            this.keys = keys;
+            this.existing = existing;
+        }
+
+        /**
+         * @return the name of the collection
+         */
+        public String getCollection() {
+            return collection;
+        }
+
+        /**
+         * @return the index definition as found on the server or null if the index was created
+         */
+        public Document getExisting() {
+            return existing;
+        }
+
+        /**
+         * @return the mapped keys of the index
+         */
+        public Document getKeys() {
+            return keys;
+        }
+
+        /**
+         * @return the name of the index
+         */
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return collection + "." + name + keys.toJson();
+        }
+    }
+}
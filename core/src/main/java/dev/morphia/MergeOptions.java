@@ -0,0 +1,75 @@
+package dev.morphia;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.internal.WriteConfigurable;
+
+/**
+ * Options related to merging an entity in to its existing document.  The setter methods return {@code this} so that a chaining style
+ * can be used.
+ *
+ * @see Datastore#merge(Object, MergeOptions)
+ * @since 2.1
+ */
+public class MergeOptions implements SessionConfigurable<MergeOptions>, WriteConfigurable<MergeOptions> {
+    private WriteConcern writeConcern;
+    private ClientSession clientSession;
+    private boolean returnDocument = true;
+
+    /**
+     * Creates a new options wrapper
+     */
+    public MergeOptions() {
+    }
+
+    /**
+     * @param that the options to copy
+     * @morphia.internal
+     */
+    public MergeOptions(InsertOneOptions that) {
+        this.writeConcern = that.writeConcern();
+        this.clientSession = that.clientSession();
+    }
+
+    @Override
+    public MergeOptions clientSession(ClientSession clientSession) {
+        this.clientSession = clientSession;
+        return this;
+    }
+
+    @Override
+    public ClientSession clientSession() {
+        return clientSession;
+    }
+
+    /**
+     * @return true if the merged document should be returned
+     */
+    public boolean isReturnDocument() {
+        return returnDocument;
+    }
+
+    /**
+     * Sets whether the merged document should be returned.  The default is true.  When false, the entity is merged with a plain update
+     * and the entity passed in is returned as is, with only its version updated.
+     *
+     * @param returnDocument true to return the merged document
+     * @return this
+     */
+    public MergeOptions returnDocument(boolean returnDocument) {
+        this.returnDocument = returnDocument;
+        return this;
+    }
+
+    @Override
+    public MergeOptions writeConcern(WriteConcern writeConcern) {
+        this.writeConcern = writeConcern;
+        return this;
+    }
+
+    @Override
+    public WriteConcern writeConcern() {
+        return writeConcern;
+    }
+}
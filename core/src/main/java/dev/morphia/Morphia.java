@@ -4,6 +4,7 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import dev.morphia.mapping.MapperOptions;
+import dev.morphia.query.QueryLogger;
 
 
 /**
@@ -31,9 +32,13 @@ public final class Morphia {
      * @return a Datastore that you can use to interact with MongoDB
      */
     public static Datastore createDatastore(String dbName, MapperOptions options) {
-        return createDatastore(MongoClients.create(MongoClientSettings.builder()
-                                                                      .uuidRepresentation(options.getUuidRepresentation())
-                                                                      .build()), dbName, options);
+        QueryLogger queryLogger = new QueryLogger();
+        Datastore datastore = createDatastore(MongoClients.create(MongoClientSettings.builder()
+                                                                                     .uuidRepresentation(options.getUuidRepresentation())
+                                                                                     .addCommandListener(queryLogger)
+                                                                                     .build()), dbName, options);
+        datastore.getMapper().setQueryLogger(queryLogger);
+        return datastore;
     }
 
     /**
@@ -21,9 +21,12 @@ import dev.morphia.aggregation.experimental.stages.Sort;
 import dev.morphia.aggregation.experimental.stages.Stage;
 import dev.morphia.aggregation.experimental.stages.Unset;
 import dev.morphia.aggregation.experimental.stages.Unwind;
+import dev.morphia.query.ExportFormat;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.internal.MorphiaCursor;
 
+import java.io.OutputStream;
+
 /**
  * @param <T> The initial type of the aggregation.  Used for collection name resolution.
  * @since 2.0
@@ -127,6 +130,19 @@ public interface Aggregation<T> {
      */
     <S> MorphiaCursor<S> execute(Class<S> resultType, AggregationOptions options);
 
+    /**
+     * Writes the results of the aggregation to a stream without decoding them.  The results are read as raw BSON and copied to the
+     * stream one at a time.  The stream is flushed but not closed.
+     *
+     * @param out     the stream to write to
+     * @param format  the format to write
+     * @param options the options to apply
+     * @return the number of documents written
+     * @morphia.experimental
+     * @since 2.1
+     */
+    long exportTo(OutputStream out, ExportFormat format, AggregationOptions options);
+
     /**
      * Processes multiple aggregation pipelines within a single stage on the same set of input documents. Each sub-pipeline has its own
      * field in the output document where its results are stored as an array of documents.
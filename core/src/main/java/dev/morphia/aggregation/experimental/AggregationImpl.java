@@ -1,6 +1,7 @@
 package dev.morphia.aggregation.experimental;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import dev.morphia.Datastore;
 import dev.morphia.aggregation.experimental.expressions.Expressions;
 import dev.morphia.aggregation.experimental.expressions.impls.Expression;
@@ -34,12 +35,18 @@ import dev.morphia.aggregation.experimental.stages.UnionWith;
 import dev.morphia.aggregation.experimental.stages.Unset;
 import dev.morphia.aggregation.experimental.stages.Unwind;
 import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.experimental.ReferenceLoadScope;
+import dev.morphia.query.ExportFormat;
 import dev.morphia.query.experimental.filters.Filter;
+import dev.morphia.query.internal.Exporter;
 import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.PrefetchingCursor;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -104,13 +111,21 @@ public class AggregationImpl<T> implements Aggregation<T> {
 
     @Override
     public <R> MorphiaCursor<R> execute(Class<R> resultType) {
-        return new MorphiaCursor<>(collection.aggregate(getDocuments(), resultType).iterator());
+        ReferenceLoadScope scope = new ReferenceLoadScope(datastore, datastore.findSession(new AggregationOptions()));
+        return new MorphiaCursor<>(scope.wrap(scope.run(() -> collection.aggregate(getDocuments(), resultType).iterator())));
     }
 
     @Override
     public <R> MorphiaCursor<R> execute(Class<R> resultType, AggregationOptions options) {
-        return new MorphiaCursor<>(options.apply(getDocuments(), collection, resultType)
-                                          .iterator());
+        ReferenceLoadScope scope = new ReferenceLoadScope(datastore, datastore.findSession(options));
+        MongoCursor<R> cursor = scope.wrap(scope.run(() -> options.apply(getDocuments(), collection, resultType)
+                                                                  .iterator()));
+        return new MorphiaCursor<>(PrefetchingCursor.wrap(cursor, options.prefetch(), options.getBatchSize(), options.prefetchExecutor()));
+    }
+
+    @Override
+    public long exportTo(OutputStream out, ExportFormat format, AggregationOptions options) {
+        return Exporter.export(execute(RawBsonDocument.class, options), out, format);
     }
 
     @Override
@@ -269,8 +284,15 @@ public class AggregationImpl<T> implements Aggregation<T> {
         return this;
     }
 
+    /**
+     * Converts the pipeline stages to their document forms
+     *
+     * @return the pipeline documents
+     * @morphia.internal
+     * @since 2.1
+     */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private List<Document> getDocuments() {
+    public List<Document> getDocuments() {
         return stages.stream()
                      .map(s -> {
                          Codec codec = datastore.getMapper().getCodecRegistry().get(s.getClass());
@@ -13,6 +13,7 @@ import dev.morphia.internal.WriteConfigurable;
 import org.bson.Document;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -31,6 +32,8 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
     private ReadConcern readConcern;
     private WriteConcern writeConcern;
     private Document hint;
+    private int prefetch;
+    private Executor prefetchExecutor;
 
     /**
      * @return the configuration value
@@ -170,7 +173,7 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
      * @return the configuration value
      */
     public int getBatchSize() {
-        return batchSize;
+        return batchSize != null ? batchSize : 0;
     }
 
     /**
@@ -295,6 +298,40 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
         return this;
     }
 
+    /**
+     * @return the number of batches to read ahead of the consumer or 0 if prefetching is disabled
+     * @since 2.1
+     */
+    public int prefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Enables reading ahead of the consumer.  Results are fetched and decoded on a thread of the given executor so that the round
+     * trips to the server and the decoding of each batch overlap with the processing of earlier results.  At most the given number
+     * of batches are buffered ahead of the consumer.  Each open cursor holds one of the executor's threads until it is closed or
+     * fully iterated.
+     *
+     * @param batches  the number of batches to buffer or 0 to disable prefetching
+     * @param executor the executor to read ahead on
+     * @return this
+     * @morphia.experimental
+     * @since 2.1
+     */
+    public AggregationOptions prefetch(int batches, Executor executor) {
+        this.prefetch = batches;
+        this.prefetchExecutor = executor;
+        return this;
+    }
+
+    /**
+     * @return the executor to read ahead on
+     * @since 2.1
+     */
+    public Executor prefetchExecutor() {
+        return prefetchExecutor;
+    }
+
     /**
      * @return the configuration value
      */
@@ -45,6 +45,26 @@ public @interface Entity {
      */
     String concern() default "";
 
+    /**
+     * The default read preference to use when reading this entity, e.g., {@code secondaryPreferred}.  A read preference given
+     * explicitly via the options of an operation takes precedence over this value.
+     *
+     * @return the read preference name
+     * @see com.mongodb.ReadPreference#valueOf(String)
+     * @since 2.1
+     */
+    String readPreference() default "";
+
+    /**
+     * The default read concern level to use when reading this entity, e.g., {@code majority}.  A read concern given explicitly
+     * via the options of an operation takes precedence over this value.
+     *
+     * @return the read concern level
+     * @see com.mongodb.ReadConcernLevel#fromString(String)
+     * @since 2.1
+     */
+    String readConcern() default "";
+
     /**
      * @return true if the discriminator for this type should be stored
      */
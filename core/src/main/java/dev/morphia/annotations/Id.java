@@ -1,5 +1,7 @@
 package dev.morphia.annotations;
 
+import org.bson.codecs.IdGenerator;
+
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Inherited;
@@ -15,5 +17,14 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface Id {
-
+    /**
+     * Defines the generator to use when an entity is persisted without an ID.  The generator must have either a public
+     * constructor taking a {@link dev.morphia.Datastore} and a {@link dev.morphia.mapping.codec.pojo.EntityModel} or a public
+     * no-arg constructor.  If not set, {@link org.bson.types.ObjectId} values are generated for fields which can hold them.
+     *
+     * @return the generator type
+     * @see dev.morphia.mapping.HiLoIdGenerator
+     * @since 2.1
+     */
+    Class<? extends IdGenerator> generator() default IdGenerator.class;
 }
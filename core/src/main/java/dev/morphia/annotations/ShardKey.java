@@ -0,0 +1,31 @@
+package dev.morphia.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the shard key of the collection an entity is mapped to.  When present, the values of the shard key fields are
+ * added to the filters of writes targeting a specific entity, e.g., saves, merges, deletes, refreshes, and versioned updates,
+ * so that these operations can be routed to a single shard rather than broadcast to all of them.
+ * <p>
+ * Saves first try a replacement using the shard key values without upserting.  If no document matches, because the entity is
+ * new or its shard key values changed since it was loaded, the entity is replaced by its id alone.
+ *
+ * @mongodb.driver.manual core/sharding-shard-key/ Shard Keys
+ * @since 2.1
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface ShardKey {
+    /**
+     * @return the java field names making up the shard key in the order they appear in the key.  These fields must be top level
+     * fields on the entity.
+     */
+    String[] value();
+}
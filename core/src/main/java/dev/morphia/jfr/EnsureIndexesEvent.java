@@ -0,0 +1,39 @@
+package dev.morphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the creation of the indexes defined for an entity
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+@Name("dev.morphia.EnsureIndexes")
+@Label("Ensure Indexes")
+@Category("Morphia")
+@Description("The creation of the indexes defined for an entity")
+public final class EnsureIndexesEvent extends Event {
+    @Label("Collection")
+    private String collection;
+
+    @Label("Entity Type")
+    private Class<?> entityType;
+
+    @Label("Indexes")
+    private int indexes;
+
+    /**
+     * @param collection the collection indexed
+     * @param entityType the type defining the indexes
+     * @param indexes    the number of indexes defined
+     */
+    public void indexed(String collection, Class<?> entityType, int indexes) {
+        this.collection = collection;
+        this.entityType = entityType;
+        this.indexes = indexes;
+    }
+}
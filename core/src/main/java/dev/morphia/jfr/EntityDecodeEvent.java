@@ -0,0 +1,31 @@
+package dev.morphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records the decoding of an entity.  The time includes decoding any nested entities which are also recorded separately.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+@Name("dev.morphia.EntityDecode")
+@Label("Entity Decode")
+@Category("Morphia")
+@Description("The decoding of an entity including any nested entities")
+@StackTrace(false)
+public final class EntityDecodeEvent extends Event {
+    @Label("Entity Type")
+    private Class<?> entityType;
+
+    /**
+     * @param entityType the type decoded
+     */
+    public void entityType(Class<?> entityType) {
+        this.entityType = entityType;
+    }
+}
@@ -0,0 +1,34 @@
+package dev.morphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the building of the model for a mapped type
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+@Name("dev.morphia.Mapping")
+@Label("Mapping")
+@Category("Morphia")
+@Description("The building and validation of the model for a mapped type")
+public final class MappingEvent extends Event {
+    @Label("Entity Type")
+    private Class<?> entityType;
+
+    @Label("Fields")
+    private int fields;
+
+    /**
+     * @param entityType the type mapped
+     * @param fields     the number of mapped fields
+     */
+    public void mapped(Class<?> entityType, int fields) {
+        this.entityType = entityType;
+        this.fields = fields;
+    }
+}
@@ -0,0 +1,29 @@
+package dev.morphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the creation of a lazy reference proxy
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+@Name("dev.morphia.ProxyCreation")
+@Label("Proxy Creation")
+@Category("Morphia")
+@Description("The generation and instantiation of a lazy reference proxy")
+public final class ProxyCreationEvent extends Event {
+    @Label("Proxied Type")
+    private Class<?> proxiedType;
+
+    /**
+     * @param proxiedType the type being proxied
+     */
+    public void proxiedType(Class<?> proxiedType) {
+        this.proxiedType = proxiedType;
+    }
+}
@@ -0,0 +1,70 @@
+package dev.morphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.bson.Document;
+
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Records a query from the moment it is sent until its cursor is exhausted or closed.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+@Name("dev.morphia.Query")
+@Label("Query")
+@Category("Morphia")
+@Description("A query from execution until its cursor is exhausted or closed")
+public final class QueryEvent extends Event {
+    @Label("Collection")
+    private String collection;
+
+    @Label("Entity Type")
+    private Class<?> entityType;
+
+    @Label("Filter Shape")
+    @Description("The query filter with all values replaced by '?'")
+    private String filter;
+
+    @Label("Documents Returned")
+    private long documents;
+
+    private static Object shape(Object value) {
+        if (value instanceof Document) {
+            Document shape = new Document();
+            for (Entry<String, Object> entry : ((Document) value).entrySet()) {
+                shape.put(entry.getKey(), shape(entry.getValue()));
+            }
+            return shape;
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            return list.isEmpty() || !(list.get(0) instanceof Document) ? "?" : List.of(shape(list.get(0)), "...");
+        }
+        return "?";
+    }
+
+    /**
+     * Counts a returned document
+     */
+    public void returned() {
+        documents++;
+    }
+
+    /**
+     * Sets the target of the query
+     *
+     * @param collection the collection queried
+     * @param entityType the type being queried
+     * @param query      the query filter.  Only the shape of the filter is recorded.
+     */
+    public void target(String collection, Class<?> entityType, Document query) {
+        this.collection = collection;
+        this.entityType = entityType;
+        filter = ((Document) shape(query)).toJson();
+    }
+}
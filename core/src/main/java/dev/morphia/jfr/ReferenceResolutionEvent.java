@@ -0,0 +1,39 @@
+package dev.morphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records a round trip to the database to resolve references
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+@Name("dev.morphia.ReferenceResolution")
+@Label("Reference Resolution")
+@Category("Morphia")
+@Description("A round trip to the database to load referenced entities")
+public final class ReferenceResolutionEvent extends Event {
+    @Label("Collection")
+    private String collection;
+
+    @Label("Requested")
+    private long requested;
+
+    @Label("Found")
+    private long found;
+
+    /**
+     * @param collection the collection holding the references
+     * @param requested  the number of entities requested
+     * @param found      the number of entities found
+     */
+    public void resolved(String collection, long requested, long found) {
+        this.collection = collection;
+        this.requested = requested;
+        this.found = found;
+    }
+}
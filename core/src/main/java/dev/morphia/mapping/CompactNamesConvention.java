@@ -0,0 +1,87 @@
+package dev.morphia.mapping;
+
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Property;
+import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.Version;
+import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
+import dev.morphia.mapping.codec.pojo.FieldModelBuilder;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces the stored names of mapped fields with compact codes assigned by a {@link FieldNameDictionary}.  Fields mapped to
+ * {@code _id} and fields given an explicit name via {@code @Property}, {@code @Reference}, or {@code @Version} keep their names.
+ * The original name is retained as an alternate name so documents written before this convention was enabled can still be
+ * loaded.  Queries, updates, sorts, projections, and indexes are all translated to the compact names.
+ * <p>
+ * This convention is not enabled by default.  To use it, add it when building the mapping options:
+ * <pre>
+ * MapperOptions.builder()
+ *     .addConvention(new CompactNamesConvention())
+ *     .build();
+ * </pre>
+ *
+ * @morphia.experimental
+ * @since 2.1
+ */
+public class CompactNamesConvention implements MorphiaConvention {
+    private final String collectionName;
+    private final Map<String, FieldNameDictionary> dictionaries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a convention storing the name assignments in {@value FieldNameDictionary#DEFAULT_COLLECTION}
+     */
+    public CompactNamesConvention() {
+        this(FieldNameDictionary.DEFAULT_COLLECTION);
+    }
+
+    /**
+     * Creates a convention storing the name assignments in the named collection
+     *
+     * @param collectionName the collection to use
+     */
+    public CompactNamesConvention(String collectionName) {
+        this.collectionName = collectionName;
+    }
+
+    @Override
+    public void apply(Datastore datastore, EntityModelBuilder builder) {
+        NamingStrategy fieldNaming = datastore.getMapper().getOptions().getFieldNaming();
+        FieldNameDictionary dictionary = dictionaries.computeIfAbsent(datastore.getDatabase().getName(),
+            name -> new FieldNameDictionary(datastore.getDatabase(), collectionName));
+
+        Set<String> names = new HashSet<>();
+        for (FieldModelBuilder field : builder.fieldModels()) {
+            names.addAll(field.alternateNames());
+            if (!isCompactable(fieldNaming, field)) {
+                names.add(field.mappedName());
+            }
+        }
+        for (FieldModelBuilder field : builder.fieldModels()) {
+            if (isCompactable(fieldNaming, field)) {
+                String original = field.mappedName();
+                if (names.add(original)) {
+                    field.alternateName(original);
+                }
+                field.mappedName(dictionary.lookup(field.field()));
+            }
+        }
+    }
+
+    private boolean isCompactable(NamingStrategy fieldNaming, FieldModelBuilder field) {
+        Property property = field.getAnnotation(Property.class);
+        Reference reference = field.getAnnotation(Reference.class);
+        Version version = field.getAnnotation(Version.class);
+        return !field.hasAnnotation(Id.class)
+               && !"_id".equals(field.mappedName())
+               && (property == null || property.value().equals(Mapper.IGNORED_FIELDNAME))
+               && (reference == null || reference.value().equals(Mapper.IGNORED_FIELDNAME))
+               && (version == null || version.value().equals(Mapper.IGNORED_FIELDNAME))
+               && field.mappedName().equals(fieldNaming.apply(field.name()));
+    }
+}
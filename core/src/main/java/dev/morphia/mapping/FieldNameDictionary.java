@@ -0,0 +1,119 @@
+package dev.morphia.mapping;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns compact, stable names to mapped fields.  The assignments are persisted in a metadata collection so that every
+ * application instance, across deploys, uses the same stored name for a given field.  New fields are assigned new codes
+ * and existing codes are never reused.
+ * <p>
+ * Codes are a decimal digit followed by one or more lowercase letters, e.g. {@code 0a}, {@code 9a}, {@code 0b}, ...
+ * Since they start with a digit they can not collide with a java field name and since they are not all digits they can
+ * not be mistaken for an array index in a query path.
+ *
+ * @morphia.internal
+ * @morphia.experimental
+ * @see CompactNamesConvention
+ * @since 2.1
+ */
+public class FieldNameDictionary {
+    /**
+     * The default name of the collection holding the dictionary
+     */
+    public static final String DEFAULT_COLLECTION = "morphia_field_names";
+
+    private static final String SEQUENCE = "#sequence";
+    private static final String NEXT = "next";
+    private static final String CODE = "code";
+
+    private final MongoCollection<Document> collection;
+    private final Map<String, String> codes = new HashMap<>();
+    private boolean loaded;
+
+    /**
+     * Creates a dictionary backed by the given collection
+     *
+     * @param database       the database to use
+     * @param collectionName the name of the collection holding the assignments
+     */
+    public FieldNameDictionary(MongoDatabase database, String collectionName) {
+        collection = database.getCollection(collectionName)
+                             .withWriteConcern(WriteConcern.MAJORITY);
+    }
+
+    /**
+     * Converts a sequence value to its compact form
+     *
+     * @param value the sequence value
+     * @return the compact name
+     */
+    static String encode(long value) {
+        StringBuilder builder = new StringBuilder();
+        builder.append((char) ('0' + value % 10));
+        long remaining = value / 10;
+        do {
+            builder.append((char) ('a' + remaining % 26));
+            remaining = remaining / 26 - 1;
+        } while (remaining >= 0);
+
+        return builder.toString();
+    }
+
+    /**
+     * Finds the compact name for a field assigning a new one if necessary.
+     *
+     * @param field the field to look up
+     * @return the compact name
+     */
+    public synchronized String lookup(Field field) {
+        if (!loaded) {
+            for (Document document : collection.find(new Document("_id", new Document("$ne", SEQUENCE)))) {
+                codes.put(document.getString("_id"), document.getString(CODE));
+            }
+            loaded = true;
+        }
+        String key = field.getDeclaringClass().getName() + "#" + field.getName();
+        String code = codes.get(key);
+        if (code == null) {
+            code = assign(key);
+            codes.put(key, code);
+        }
+
+        return code;
+    }
+
+    private String assign(String key) {
+        Document sequence = collection.findOneAndUpdate(new Document("_id", SEQUENCE),
+            new Document("$inc", new Document(NEXT, 1L)),
+            new FindOneAndUpdateOptions()
+                .upsert(true)
+                .returnDocument(ReturnDocument.AFTER));
+        String code = encode(((Number) sequence.get(NEXT)).longValue() - 1);
+        try {
+            collection.insertOne(new Document("_id", key).append(CODE, code));
+            return code;
+        } catch (MongoWriteException e) {
+            if (ErrorCategory.fromErrorCode(e.getError().getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                throw e;
+            }
+            // another process assigned a code first so use that one instead
+            Document existing = collection.find(new Document("_id", key)).first();
+            if (existing == null) {
+                throw new MappingException(Sofia.missingFieldNameAssignment(key), e);
+            }
+            return existing.getString(CODE);
+        }
+    }
+}
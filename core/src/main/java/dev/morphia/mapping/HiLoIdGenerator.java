@@ -0,0 +1,126 @@
+package dev.morphia.mapping;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import dev.morphia.Datastore;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.codecs.IdGenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Generates numeric IDs by reserving blocks of values from a counters collection.  Each block costs a single
+ * {@code findOneAndUpdate} and the IDs within a block are handed out without any further round trips or locking.  IDs are
+ * unique per collection across all application instances sharing the counters collection but are only ordered within a block.
+ * <p>
+ * To use this generator, configure it on the ID field:
+ * <pre>
+ * &#64;Id(generator = HiLoIdGenerator.class)
+ * private Long id;
+ * </pre>
+ * The ID field may be a {@code Long}, an {@code Integer}, or a {@code String}.  To use a different counters collection or block
+ * size, subclass this type and pass the desired values to {@link #HiLoIdGenerator(Datastore, EntityModel, String, int)}.
+ *
+ * @morphia.experimental
+ * @since 2.1
+ */
+public class HiLoIdGenerator implements IdGenerator {
+    /**
+     * The default name of the collection holding the counters
+     */
+    public static final String DEFAULT_COLLECTION = "morphia_counters";
+    /**
+     * The default number of IDs reserved at a time
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 100;
+
+    private final MongoCollection<Document> counters;
+    private final String key;
+    private final int blockSize;
+    private final LongFunction<Object> converter;
+    private volatile Block block;
+
+    /**
+     * Creates a generator using the default collection and block size
+     *
+     * @param datastore the datastore to use
+     * @param model     the model of the entity needing IDs
+     */
+    public HiLoIdGenerator(Datastore datastore, EntityModel model) {
+        this(datastore, model, DEFAULT_COLLECTION, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a generator
+     *
+     * @param datastore      the datastore to use
+     * @param model          the model of the entity needing IDs
+     * @param collectionName the name of the counters collection
+     * @param blockSize      the number of IDs to reserve at a time
+     */
+    public HiLoIdGenerator(Datastore datastore, EntityModel model, String collectionName, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException(Sofia.invalidBlockSize(blockSize));
+        }
+        counters = datastore.getDatabase().getCollection(collectionName)
+                            .withWriteConcern(WriteConcern.MAJORITY);
+        key = model.getCollectionName();
+        this.blockSize = blockSize;
+        converter = converter(model);
+    }
+
+    private static LongFunction<Object> converter(EntityModel model) {
+        Class<?> type = model.getIdField().getType();
+        if (type.equals(Long.class)) {
+            return value -> value;
+        } else if (type.equals(Integer.class)) {
+            return Math::toIntExact;
+        } else if (type.equals(String.class)) {
+            return String::valueOf;
+        }
+        throw new MappingException(Sofia.unsupportedIdType(model.getType().getName(), type.getName()));
+    }
+
+    @Override
+    public Object generate() {
+        while (true) {
+            Block current = block;
+            if (current != null) {
+                long next = current.next.getAndIncrement();
+                if (next <= current.max) {
+                    return converter.apply(next);
+                }
+            }
+            synchronized (this) {
+                if (block == current) {
+                    block = reserve();
+                }
+            }
+        }
+    }
+
+    private Block reserve() {
+        Document counter = counters.findOneAndUpdate(new Document("_id", key),
+            new Document("$inc", new Document("next", (long) blockSize)),
+            new FindOneAndUpdateOptions()
+                .upsert(true)
+                .returnDocument(ReturnDocument.AFTER));
+        long max = ((Number) counter.get("next")).longValue();
+        return new Block(max - blockSize + 1, max);
+    }
+
+    private static class Block {
+        private final AtomicLong next;
+        private final long max;
+
+        Block(long first, long max) {
+            next = new AtomicLong(first);
+            this.max = max;
+        }
+    }
+}
@@ -5,11 +5,16 @@ import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.experimental.ConstructorCreator;
 import dev.morphia.sofia.Sofia;
 
+import java.lang.reflect.Constructor;
+
 /**
  * @morphia.internal
  */
 public class InstanceCreatorFactoryImpl implements InstanceCreatorFactory {
     private final EntityModel model;
+    private volatile boolean resolved;
+    private boolean fullConstructor;
+    private Constructor<?> noArgsConstructor;
 
     /**
      * Creates a factory for this type
@@ -22,18 +27,29 @@ public class InstanceCreatorFactoryImpl implements InstanceCreatorFactory {
 
     @Override
     public MorphiaInstanceCreator create() {
-        if (!model.getType().isInterface()) {
-            if (ConstructorCreator.getFullConstructor(model) != null) {
-                return new ConstructorCreator(model);
-            }
+        if (!resolved) {
+            resolve();
+        }
+        return fullConstructor ? new ConstructorCreator(model) : new NoArgCreator(noArgsConstructor);
+    }
 
-            try {
-                return new NoArgCreator(model.getType().getDeclaredConstructor());
-            } catch (NoSuchMethodException e) {
+    /**
+     * Looks up the constructor to use once rather than for every instance created
+     */
+    private synchronized void resolve() {
+        if (!resolved) {
+            if (model.getType().isInterface()) {
                 throw new MappingException(Sofia.noargConstructorNotFound(model.getType().getName()));
-
             }
+            fullConstructor = ConstructorCreator.getFullConstructor(model) != null;
+            if (!fullConstructor) {
+                try {
+                    noArgsConstructor = model.getType().getDeclaredConstructor();
+                } catch (NoSuchMethodException e) {
+                    throw new MappingException(Sofia.noargConstructorNotFound(model.getType().getName()));
+                }
+            }
+            resolved = true;
         }
-        throw new MappingException(Sofia.noargConstructorNotFound(model.getType().getName()));
     }
 }
@@ -1,6 +1,9 @@
 package dev.morphia.mapping;
 
 
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
@@ -9,6 +12,7 @@ import dev.morphia.Key;
 import dev.morphia.aggregation.experimental.codecs.AggregationCodecProvider;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
+import dev.morphia.jfr.MappingEvent;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.EnumCodecProvider;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
@@ -17,14 +21,23 @@ import dev.morphia.mapping.codec.PrimitiveCodecRegistry;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.mapping.validation.MappingValidator;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.query.QueryLogger;
 import dev.morphia.sofia.Sofia;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt64;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
@@ -36,9 +49,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -61,12 +76,17 @@ public class Mapper {
      * @morphia.internal
      */
     public static final String IGNORED_FIELDNAME = ".";
+    private static final int REFRESH_BATCH_SIZE = 1000;
+    private static final DecoderContext REFRESH_CONTEXT = DecoderContext.builder().checkedDiscriminator(true).build();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
 
     /**
      * Set of classes that registered by this mapper
      */
     private final Map<Class, EntityModel> mappedEntities = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Set<EntityModel>> mappedEntitiesByCollection = new ConcurrentHashMap<>();
+    private final Map<Class, MongoCollection> collections = new ConcurrentHashMap<>();
 
     //EntityInterceptors; these are called after EntityListeners and lifecycle methods on an Entity, for all Entities
     private final List<EntityInterceptor> interceptors = new LinkedList<>();
@@ -75,6 +95,8 @@ public class Mapper {
     private final MorphiaCodecProvider morphiaCodecProvider;
     private final Datastore datastore;
     private final CodecRegistry codecRegistry;
+    private volatile MorphiaMetrics metrics;
+    private volatile QueryLogger queryLogger;
 
     /**
      * Creates a Mapper with the given options.
@@ -157,7 +179,7 @@ public class Mapper {
 
         return codecRegistry
                    .get(aClass)
-                   .decode(reader, DecoderContext.builder().build());
+                   .decode(reader, DECODER_CONTEXT);
     }
 
     /**
@@ -233,12 +255,19 @@ public class Mapper {
     }
 
     /**
+     * Gets the collection mapped for a type configured with any defaults defined on the type's mapping.  These collections are
+     * cached so repeated calls return the same instance.
+     *
      * @param type the type look up
      * @param <T>  the class type
      * @return the collection mapped for this class
      * @morphia.internal
      */
     public <T> MongoCollection<T> getCollection(Class<T> type) {
+        MongoCollection<T> cached = collections.get(type);
+        if (cached != null) {
+            return cached;
+        }
         EntityModel entityModel = getEntityModel(type);
         if (entityModel == null) {
             throw new MappingException(Sofia.notMappable(type.getName()));
@@ -247,13 +276,30 @@ public class Mapper {
             throw new MappingException(Sofia.noMappedCollection(type.getName()));
         }
 
-        MongoCollection<T> collection = datastore.getDatabase().getCollection(entityModel.getCollectionName(), type);
+        MongoCollection<T> collection = withDefaults(datastore.getDatabase().getCollection(entityModel.getCollectionName(), type),
+            entityModel);
+        collections.put(type, collection);
+        return collection;
+    }
 
-        Entity annotation = entityModel.getEntityAnnotation();
-        if (annotation != null && WriteConcern.valueOf(annotation.concern()) != null) {
-            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
+    /**
+     * Gets a named collection.  If the type is a mapped entity, the collection is configured with the defaults defined on the
+     * type's mapping just as the collection returned by {@link #getCollection(Class)} is.
+     *
+     * @param name the collection name
+     * @param type the document type
+     * @param <T>  the document type
+     * @return the collection
+     * @morphia.internal
+     * @since 2.1
+     */
+    public <T> MongoCollection<T> getCollection(String name, Class<T> type) {
+        EntityModel entityModel = getEntityModel(type);
+        if (entityModel != null && name.equals(entityModel.getCollectionName())) {
+            return getCollection(type);
         }
-        return collection;
+        MongoCollection<T> collection = datastore.getDatabase().getCollection(name, type);
+        return entityModel != null ? withDefaults(collection, entityModel) : collection;
     }
 
     /**
@@ -294,6 +340,23 @@ public class Mapper {
         return null;
     }
 
+    /**
+     * Gets the shard key values for an entity keyed by their mapped names.  The ID is not included.
+     *
+     * @param entity the entity to process
+     * @return the shard key values or an empty document if the entity's type is not sharded
+     * @morphia.internal
+     * @see dev.morphia.annotations.ShardKey
+     * @since 2.1
+     */
+    public Document getShardKeyValues(Object entity) {
+        Document values = new Document();
+        for (FieldModel field : getEntityModel(entity.getClass()).getShardKeys()) {
+            values.put(field.getMappedName(), field.getValue(entity));
+        }
+        return values;
+    }
+
     /**
      * Gets list of {@link EntityInterceptor}s
      *
@@ -347,6 +410,27 @@ public class Mapper {
         return new ArrayList<>(mappedEntities.values());
     }
 
+    /**
+     * @return the metrics listener or null if none is registered
+     * @morphia.experimental
+     * @since 2.1
+     */
+    public MorphiaMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Registers a listener to receive timings from the codec, query, and write paths.  Passing null removes any existing
+     * listener.
+     *
+     * @param metrics the listener to use
+     * @morphia.experimental
+     * @since 2.1
+     */
+    public void setMetrics(MorphiaMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * @return the options used by this Mapper
      */
@@ -355,7 +439,17 @@ public class Mapper {
     }
 
     /**
-     * Sets the options this Mapper should use
+     * @return the query logger or null if none is registered
+     * @morphia.experimental
+     * @since 2.1
+     */
+    public QueryLogger getQueryLogger() {
+        return queryLogger;
+    }
+
+    /**
+     * Sets the options this Mapper should use.  The options themselves are fixed at construction but any cached collections are
+     * discarded and rebuilt on next use.
      *
      * @param options the options to use
      * @deprecated no longer used
@@ -363,6 +457,19 @@ public class Mapper {
     @SuppressWarnings("unused")
     @Deprecated(since = "2.0", forRemoval = true)
     public void setOptions(MapperOptions options) {
+        collections.clear();
+    }
+
+    /**
+     * Registers the logger capturing queries run with {@link dev.morphia.query.FindOptions#logQuery()}.  The logger must also be
+     * registered as a command listener with the {@code MongoClient} in use.
+     *
+     * @param queryLogger the logger to use
+     * @morphia.experimental
+     * @since 2.1
+     */
+    public void setQueryLogger(QueryLogger queryLogger) {
+        this.queryLogger = queryLogger;
     }
 
     /**
@@ -377,7 +484,7 @@ public class Mapper {
         if (clazz != null) {
             final Entity entityAnn = getEntityModel(clazz).getEntityAnnotation();
             if (entityAnn != null && !entityAnn.concern().isEmpty()) {
-                wc = WriteConcern.valueOf(entityAnn.concern());
+                wc = getCollection(clazz).getWriteConcern();
             }
         }
 
@@ -391,6 +498,18 @@ public class Mapper {
         return !interceptors.isEmpty();
     }
 
+    /**
+     * Normalizes an encoded id for comparison so that ids encoded as ints match the longs they may be stored as and vice versa
+     *
+     * @param id the encoded id
+     * @return the id to compare
+     * @morphia.internal
+     * @since 2.1
+     */
+    public static BsonValue idKey(BsonValue id) {
+        return id.isInt32() ? new BsonInt64(id.asInt32().longValue()) : id;
+    }
+
     /**
      * Checks if a type is mappable or not
      *
@@ -462,15 +581,54 @@ public class Mapper {
      * @param <T>    the entity type
      */
     public <T> void refresh(T entity) {
-        Codec<T> refreshCodec = morphiaCodecProvider.getRefreshCodec(entity, getCodecRegistry());
+        MorphiaCodec<T> codec = (MorphiaCodec<T>) getCodecRegistry().get(entity.getClass());
+        Object id = getId(entity);
+        Document filter = new Document("_id", id);
+        filter.putAll(getShardKeyValues(entity));
+        RawBsonDocument document = getCollection(entity.getClass()).withDocumentClass(RawBsonDocument.class)
+                                                                   .find(filter)
+                                                                   .first();
+        if (document == null) {
+            throw new MappingException(Sofia.missingRefreshedEntity(entity.getClass().getName(), id));
+        }
+
+        codec.decode(document.asBsonReader(), entity, REFRESH_CONTEXT);
+    }
 
-        MongoCollection<?> collection = getCollection(entity.getClass());
-        Document id = collection.find(new Document("_id", getEntityModel(entity.getClass())
-                                                              .getIdField()
-                                                              .getValue(entity)), Document.class)
-                                .first();
+    /**
+     * Refreshes entities with their current state in the database.  The entities are reloaded with one {@code $in} query per
+     * mapped type, split in to chunks of 1000 ids, and each document is decoded straight in to the entities
+     * with its id.  Entities whose documents no longer exist are left unchanged.
+     *
+     * @param entities the entities to refresh
+     * @param <T>      the entity type
+     * @return the number of entities refreshed
+     * @since 2.1
+     */
+    public <T> int refresh(List<T> entities) {
+        Map<Class<?>, Map<BsonValue, List<T>>> grouped = new LinkedHashMap<>();
+        for (T entity : entities) {
+            grouped.computeIfAbsent(entity.getClass(), type -> new LinkedHashMap<>())
+                   .computeIfAbsent(idKey(toBsonValue(getId(entity))), id -> new ArrayList<>())
+                   .add(entity);
+        }
 
-        refreshCodec.decode(new DocumentReader(id), DecoderContext.builder().checkedDiscriminator(true).build());
+        int refreshed = 0;
+        for (Entry<Class<?>, Map<BsonValue, List<T>>> entry : grouped.entrySet()) {
+            MorphiaCodec<T> codec = (MorphiaCodec<T>) getCodecRegistry().get(entry.getKey());
+            MongoCollection<RawBsonDocument> collection = getCollection(entry.getKey()).withDocumentClass(RawBsonDocument.class);
+            List<BsonValue> ids = new ArrayList<>(entry.getValue().keySet());
+            for (int i = 0; i < ids.size(); i += REFRESH_BATCH_SIZE) {
+                BsonArray chunk = new BsonArray(ids.subList(i, Math.min(i + REFRESH_BATCH_SIZE, ids.size())));
+                for (RawBsonDocument document : collection.find(new BsonDocument("_id", new BsonDocument("$in", chunk)))) {
+                    for (T entity : entry.getValue().getOrDefault(idKey(document.get("_id")), List.of())) {
+                        codec.decode(document.asBsonReader(), entity, REFRESH_CONTEXT);
+                        refreshed++;
+                    }
+                }
+            }
+        }
+        return refreshed;
     }
 
     /**
@@ -486,7 +644,7 @@ public class Mapper {
 
         DocumentWriter writer = new DocumentWriter();
         ((Codec) getCodecRegistry().get(entityModel.getType()))
-            .encode(writer, entity, EncoderContext.builder().build());
+            .encode(writer, entity, ENCODER_CONTEXT);
 
         return writer.getDocument();
     }
@@ -577,7 +735,13 @@ public class Mapper {
             if (!isMappable(actual) && !allowUnannotated) {
                 return null;
             }
+            MappingEvent event = new MappingEvent();
+            event.begin();
             model = register(createEntityModel(type));
+            if (event.shouldCommit()) {
+                event.mapped(model.getType(), model.getFields().size());
+                event.commit();
+            }
         }
 
         return model;
@@ -610,6 +774,7 @@ public class Mapper {
         discriminatorLookup.addModel(entityModel);
 
         mappedEntities.put(entityModel.getType(), entityModel);
+        collections.remove(entityModel.getType());
         if (entityModel.getEntityAnnotation() != null) {
             mappedEntitiesByCollection.computeIfAbsent(entityModel.getCollectionName(), s -> new CopyOnWriteArraySet<>())
                                       .add(entityModel);
@@ -624,4 +789,40 @@ public class Mapper {
         return entityModel;
     }
 
+    private <T> MongoCollection<T> withDefaults(MongoCollection<T> collection, EntityModel entityModel) {
+        Entity annotation = entityModel.getEntityAnnotation();
+        if (annotation != null) {
+            WriteConcern writeConcern = WriteConcern.valueOf(annotation.concern());
+            if (writeConcern != null) {
+                collection = collection.withWriteConcern(writeConcern);
+            }
+            if (!annotation.readPreference().isEmpty()) {
+                collection = collection.withReadPreference(ReadPreference.valueOf(annotation.readPreference()));
+            }
+            if (!annotation.readConcern().isEmpty()) {
+                collection = collection.withReadConcern(new ReadConcern(ReadConcernLevel.fromString(annotation.readConcern())));
+            }
+        }
+        return collection;
+    }
+
+    /**
+     * Encodes a value, such as an id, as a BsonValue
+     *
+     * @param value the value to encode
+     * @return the encoded value
+     * @morphia.internal
+     * @since 2.1
+     */
+    @SuppressWarnings("unchecked")
+    public BsonValue toBsonValue(Object value) {
+        BsonDocument holder = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(holder);
+        writer.writeStartDocument();
+        writer.writeName("_id");
+        ENCODER_CONTEXT.encodeWithChildContext((Codec<Object>) getCodecRegistry().get(value.getClass()), writer, value);
+        writer.writeEndDocument();
+        return holder.get("_id");
+    }
+
 }
@@ -39,6 +39,8 @@ public class MapperOptions {
     private final UuidRepresentation uuidRepresentation;
     private final QueryFactory queryFactory;
     private final boolean enablePolymorphicQueries;
+    private final boolean warnOnMissingShardKey;
+    private final int referenceBatchSize;
     private ClassLoader classLoader;
 
     private MapperOptions(Builder builder) {
@@ -58,6 +60,8 @@ public class MapperOptions {
         queryFactory = builder.queryFactory;
         enablePolymorphicQueries = builder.enablePolymorphicQueries;
         dateStorage = builder.dateStorage;
+        warnOnMissingShardKey = builder.warnOnMissingShardKey;
+        referenceBatchSize = builder.referenceBatchSize;
     }
 
     /**
@@ -81,6 +85,8 @@ public class MapperOptions {
         builder.creator = original.getCreator();
         builder.classLoader = original.getClassLoader();
         builder.dateStorage = original.getDateStorage();
+        builder.warnOnMissingShardKey = original.isWarnOnMissingShardKey();
+        builder.referenceBatchSize = original.getReferenceBatchSize();
         return builder;
     }
 
@@ -169,6 +175,15 @@ public class MapperOptions {
         return queryFactory;
     }
 
+    /**
+     * @return the maximum number of lazy references to the same collection loaded together
+     * @see Builder#referenceBatchSize(int)
+     * @since 2.1
+     */
+    public int getReferenceBatchSize() {
+        return referenceBatchSize;
+    }
+
     /**
      * @return the UUID representation to use in the driver
      */
@@ -218,6 +233,15 @@ public class MapperOptions {
         return storeNulls;
     }
 
+    /**
+     * @return true if Morphia should log a warning when a query against a sharded entity does not include its shard key
+     * @see dev.morphia.annotations.ShardKey
+     * @since 2.1
+     */
+    public boolean isWarnOnMissingShardKey() {
+        return warnOnMissingShardKey;
+    }
+
     /**
      * A builder class for setting mapping options
      */
@@ -231,6 +255,8 @@ public class MapperOptions {
         private boolean cacheClassLookups;
         private boolean mapSubPackages;
         private boolean enablePolymorphicQueries;
+        private boolean warnOnMissingShardKey;
+        private int referenceBatchSize = 100;
         private MorphiaInstanceCreator creator;
         private ClassLoader classLoader;
         private DateStorage dateStorage = DateStorage.UTC;
@@ -405,6 +431,21 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Sets the maximum number of lazy references to the same collection loaded together.  Lazy references decoded by the same
+         * query or aggregation cursor join a shared group and the first one used loads every reference in its group with a single
+         * query in the cursor's session.  A size of 1 or less loads each reference on its own.  The default is 100.
+         *
+         * @param referenceBatchSize the maximum number of references to load together
+         * @return this
+         * @see dev.morphia.annotations.Reference#lazy()
+         * @since 2.1
+         */
+        public Builder referenceBatchSize(int referenceBatchSize) {
+            this.referenceBatchSize = referenceBatchSize;
+            return this;
+        }
+
         /**
          * @param storeEmpties if true empty maps and collection types are stored in the database
          * @return this
@@ -446,5 +487,19 @@ public class MapperOptions {
             this.uuidRepresentation = uuidRepresentation;
             return this;
         }
+
+        /**
+         * Enables warnings for queries against sharded entities which do not include the shard key.  Such queries can not be
+         * targeted and are sent to every shard in the cluster.
+         *
+         * @param warnOnMissingShardKey if true, a warning is logged when a query does not include the shard key
+         * @return this
+         * @see dev.morphia.annotations.ShardKey
+         * @since 2.1
+         */
+        public Builder warnOnMissingShardKey(boolean warnOnMissingShardKey) {
+            this.warnOnMissingShardKey = warnOnMissingShardKey;
+            return this;
+        }
     }
 }
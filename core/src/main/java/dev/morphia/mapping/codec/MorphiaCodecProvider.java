@@ -60,7 +60,9 @@ public class MorphiaCodecProvider implements CodecProvider {
      * @param registry the codec registry
      * @param <T>      the entity type
      * @return the new codec
+     * @deprecated use {@link MorphiaCodec#decode(org.bson.BsonReader, Object, org.bson.codecs.DecoderContext)} on the entity's codec
      */
+    @Deprecated(since = "2.1", forRemoval = true)
     public <T> Codec<T> getRefreshCodec(T entity, CodecRegistry registry) {
         EntityModel model = mapper.getEntityModel(entity.getClass());
         return new MorphiaCodec<>(datastore, model, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry) {
@@ -35,6 +35,7 @@ public class MorphiaTypesCodecProvider implements CodecProvider {
         addCodec(new KeyCodec(mapper));
         addCodec(new LocaleCodec());
         addCodec(new ObjectCodec(mapper));
+        addCodec(new ParameterCodec());
         addCodec(new ShapeCodec());
         addCodec(new LegacyQueryCodec(mapper));
         addCodec(new MorphiaQueryCodec(mapper));
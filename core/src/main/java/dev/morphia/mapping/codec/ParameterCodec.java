@@ -0,0 +1,39 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.query.Parameter;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Encodes a template parameter as a marker document to be replaced by the bound value when the template is executed.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public class ParameterCodec implements Codec<Parameter> {
+    /**
+     * The name of the single field of the marker document
+     */
+    public static final String MARKER = "$morphia.parameter";
+
+    @Override
+    public Parameter decode(BsonReader reader, DecoderContext decoderContext) {
+        throw new UnsupportedOperationException(Sofia.encodingOnly());
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Parameter value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeString(MARKER, value.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Parameter> getEncoderClass() {
+        return Parameter.class;
+    }
+}
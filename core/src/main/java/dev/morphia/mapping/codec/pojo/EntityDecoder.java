@@ -2,9 +2,12 @@ package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PreLoad;
+import dev.morphia.jfr.EntityDecodeEvent;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
+import dev.morphia.metrics.MorphiaMetrics;
+import jdk.jfr.EventType;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
 import org.bson.BsonReaderMark;
@@ -18,10 +21,15 @@ import org.bson.codecs.configuration.CodecRegistry;
 import static dev.morphia.mapping.codec.Conversions.convert;
 
 /**
+ * Decodes entities for a {@link MorphiaCodec}.  A decoder is shared by every decode made through its codec and so holds no per
+ * document state.
+ *
  * @morphia.internal
  * @since 2.0
  */
 public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
+    private static final DecoderContext CHECKED_DISCRIMINATOR = DecoderContext.builder().checkedDiscriminator(true).build();
+    private static final EventType DECODE_EVENT = EventType.getEventType(EntityDecodeEvent.class);
     private final MorphiaCodec<?> morphiaCodec;
 
     protected EntityDecoder(MorphiaCodec<?> morphiaCodec) {
@@ -30,11 +38,28 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
 
     @Override
     public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        MorphiaMetrics metrics = morphiaCodec.getMapper().getMetrics();
+        if (metrics == null && !DECODE_EVENT.isEnabled()) {
+            return decodeEntity(reader, decoderContext);
+        }
+        EntityDecodeEvent event = new EntityDecodeEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Object entity = decodeEntity(reader, decoderContext);
+        if (metrics != null) {
+            metrics.decode(morphiaCodec.getEntityModel().getType(), System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.entityType(morphiaCodec.getEntityModel().getType());
+            event.commit();
+        }
+        return entity;
+    }
+
+    private Object decodeEntity(BsonReader reader, DecoderContext decoderContext) {
         Object entity;
-        if (morphiaCodec.getEntityModel().hasLifecycle(PreLoad.class)
-            || morphiaCodec.getEntityModel().hasLifecycle(PostLoad.class)
-            || morphiaCodec.getMapper().hasInterceptors()) {
-            entity = decodeWithLifecycle(reader, decoderContext);
+        if (hasLifecycle()) {
+            entity = decodeWithLifecycle(reader, decoderContext, getInstanceCreator(morphiaCodec.getEntityModel()));
         } else {
             EntityModel classModel = morphiaCodec.getEntityModel();
             if (decoderContext.hasCheckedDiscriminator()) {
@@ -44,7 +69,7 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
             } else {
                 entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(),
                     morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
-                             .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+                             .decode(reader, CHECKED_DISCRIMINATOR);
             }
         }
 
@@ -120,10 +145,42 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
         return classModel.getInstanceCreator();
     }
 
-    private Object decodeWithLifecycle(BsonReader reader, DecoderContext decoderContext) {
-        final Object entity;
-        final MorphiaInstanceCreator instanceCreator = getInstanceCreator(morphiaCodec.getEntityModel());
-        entity = instanceCreator.getInstance();
+    private boolean hasLifecycle() {
+        return morphiaCodec.getEntityModel().hasLifecycle(PreLoad.class)
+               || morphiaCodec.getEntityModel().hasLifecycle(PostLoad.class)
+               || morphiaCodec.getMapper().hasInterceptors();
+    }
+
+    /**
+     * Decodes a document in to an existing entity.  The document is assumed to be of the entity's type so no discriminator lookup is
+     * made.
+     *
+     * @param reader         the reader to read from
+     * @param decoderContext the decoder context
+     * @param entity         the entity to update
+     * @since 2.1
+     */
+    public void decodeInto(BsonReader reader, DecoderContext decoderContext, Object entity) {
+        MorphiaInstanceCreator instanceCreator = new MorphiaInstanceCreator() {
+            @Override
+            public Object getInstance() {
+                return entity;
+            }
+
+            @Override
+            public void set(Object value, FieldModel model) {
+                model.getAccessor().set(entity, value);
+            }
+        };
+        if (hasLifecycle()) {
+            decodeWithLifecycle(reader, decoderContext, instanceCreator);
+        } else {
+            decodeProperties(reader, decoderContext, instanceCreator);
+        }
+    }
+
+    private Object decodeWithLifecycle(BsonReader reader, DecoderContext decoderContext, MorphiaInstanceCreator instanceCreator) {
+        final Object entity = instanceCreator.getInstance();
 
         Document document = morphiaCodec.getRegistry().get(Document.class).decode(reader, decoderContext);
         morphiaCodec.getEntityModel().callLifecycleMethods(PreLoad.class, entity, document, morphiaCodec.getMapper());
@@ -1,8 +1,13 @@
 package dev.morphia.mapping.codec.pojo;
 
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Id;
 import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PrePersist;
+import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.sofia.Sofia;
 import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
@@ -11,18 +16,19 @@ import org.bson.codecs.IdGenerator;
 import org.bson.codecs.ObjectIdGenerator;
 import org.bson.types.ObjectId;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
-import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
-
 /**
  * @since 2.0
  */
 class EntityEncoder implements org.bson.codecs.Encoder<Object> {
     public static final ObjectIdGenerator OBJECT_ID_GENERATOR = new ObjectIdGenerator();
     private final MorphiaCodec morphiaCodec;
-    private IdGenerator idGenerator;
+    private volatile IdGenerator idGenerator;
+    private volatile boolean idGeneratorResolved;
 
     EntityEncoder(MorphiaCodec morphiaCodec) {
         this.morphiaCodec = morphiaCodec;
@@ -31,6 +37,8 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
     @Override
     public void encode(BsonWriter writer, Object value, EncoderContext encoderContext) {
         EntityModel model = morphiaCodec.getEntityModel();
+        MorphiaMetrics metrics = morphiaCodec.getMapper().getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
         if (model.hasLifecycle(PostPersist.class)
             || model.hasLifecycle(PrePersist.class)
             || morphiaCodec.getMapper().hasInterceptors()) {
@@ -39,6 +47,9 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
         } else {
             encodeEntity(writer, value, encoderContext);
         }
+        if (metrics != null) {
+            metrics.encode(model.getType(), System.nanoTime() - start);
+        }
     }
 
     @Override
@@ -54,24 +65,25 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
 
     @SuppressWarnings("unchecked")
     private void encodeEntity(BsonWriter writer, Object value, EncoderContext encoderContext) {
-        if (areEquivalentTypes(value.getClass(), morphiaCodec.getEntityModel().getType())) {
-            document(writer, () -> {
+        EntityModel model = morphiaCodec.getEntityModel();
+        if (areEquivalentTypes(value.getClass(), model.getType())) {
+            writer.writeStartDocument();
 
-                FieldModel idModel = morphiaCodec.getEntityModel().getIdField();
-                encodeIdProperty(writer, value, encoderContext, idModel);
+            FieldModel idModel = model.getIdField();
+            encodeIdProperty(writer, value, encoderContext, idModel);
 
-                if (morphiaCodec.getEntityModel().useDiscriminator()) {
-                    writer.writeString(morphiaCodec.getEntityModel().getDiscriminatorKey(),
-                        morphiaCodec.getEntityModel().getDiscriminator());
-                }
+            if (model.useDiscriminator()) {
+                writer.writeString(model.getDiscriminatorKey(), model.getDiscriminator());
+            }
 
-                for (FieldModel fieldModel : morphiaCodec.getEntityModel().getFields()) {
-                    if (fieldModel.equals(idModel)) {
-                        continue;
-                    }
+            List<FieldModel> fields = model.fields();
+            for (int i = 0; i < fields.size(); i++) {
+                FieldModel fieldModel = fields.get(i);
+                if (!fieldModel.equals(idModel)) {
                     encodeProperty(writer, value, encoderContext, fieldModel);
                 }
-            });
+            }
+            writer.writeEndDocument();
         } else {
             morphiaCodec.getRegistry().get((Class<? super Object>) value.getClass())
                         .encode(writer, value, encoderContext);
@@ -128,15 +140,46 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
         morphiaCodec.getRegistry().get(Document.class).encode(writer, document, encoderContext);
     }
 
-    private IdGenerator getIdGenerator() {
-        if (idGenerator == null) {
-            FieldModel idModel = morphiaCodec.getEntityModel().getIdField();
-            if (idModel.getNormalizedType().isAssignableFrom(ObjectId.class)) {
-                idGenerator = OBJECT_ID_GENERATOR;
+    IdGenerator getIdGenerator() {
+        if (!idGeneratorResolved) {
+            synchronized (this) {
+                if (!idGeneratorResolved) {
+                    idGenerator = createIdGenerator();
+                    idGeneratorResolved = true;
+                }
             }
         }
 
         return idGenerator;
     }
 
+    private IdGenerator createIdGenerator() {
+        EntityModel model = morphiaCodec.getEntityModel();
+        FieldModel idModel = model.getIdField();
+        Id id = idModel.getAnnotation(Id.class);
+        if (id != null && !id.generator().equals(IdGenerator.class)) {
+            Class<? extends IdGenerator> type = id.generator();
+            try {
+                try {
+                    return type.getConstructor(Datastore.class, EntityModel.class)
+                               .newInstance(morphiaCodec.getDatastore(), model);
+                } catch (NoSuchMethodException e) {
+                    return type.getConstructor().newInstance();
+                }
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new MappingException(Sofia.cannotInstantiate(type.getName(), e.getCause().getMessage()), e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new MappingException(Sofia.cannotInstantiate(type.getName(), e.getMessage()), e);
+            }
+        }
+        if (idModel.getNormalizedType().isAssignableFrom(ObjectId.class)) {
+            return OBJECT_ID_GENERATOR;
+        }
+
+        return null;
+    }
+
 }
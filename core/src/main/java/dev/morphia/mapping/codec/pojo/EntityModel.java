@@ -10,6 +10,7 @@ import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
+import dev.morphia.annotations.ShardKey;
 import dev.morphia.annotations.Version;
 import dev.morphia.mapping.InstanceCreatorFactory;
 import dev.morphia.mapping.InstanceCreatorFactoryImpl;
@@ -48,6 +49,7 @@ public class EntityModel {
 
     private final Map<Class<? extends Annotation>, Annotation> annotations;
     private final Map<String, FieldModel> fieldModelsByField;
+    private final List<FieldModel> fields;
     private final Map<String, FieldModel> fieldModelsByMappedName;
     private final Datastore datastore;
     private final InstanceCreatorFactory creatorFactory;
@@ -60,6 +62,7 @@ public class EntityModel {
     private final EntityModel superClass;
     private final FieldModel idField;
     private final FieldModel versionField;
+    private final List<FieldModel> shardKeys;
     private Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
 
     /**
@@ -93,6 +96,7 @@ public class EntityModel {
             }
             fieldModelsByField.putIfAbsent(model.getName(), model);
         });
+        fields = List.copyOf(fieldModelsByField.values());
 
         this.datastore = builder.getDatastore();
         this.collectionName = builder.getCollectionName();
@@ -105,6 +109,7 @@ public class EntityModel {
 
         idField = getFields(Id.class).stream().findFirst().orElse(null);
         versionField = getFields(Version.class).stream().findFirst().orElse(null);
+        shardKeys = findShardKeys();
     }
 
     /**
@@ -203,7 +208,7 @@ public class EntityModel {
      * @return the list of fields
      */
     public List<FieldModel> getFields() {
-        return new ArrayList<>(fieldModelsByField.values());
+        return new ArrayList<>(fields);
     }
 
     /**
@@ -218,6 +223,33 @@ public class EntityModel {
                                  .collect(Collectors.toList());
     }
 
+    /**
+     * @return the shared, unmodifiable list of fields for use where a copy per call is too costly
+     */
+    List<FieldModel> fields() {
+        return fields;
+    }
+
+    /**
+     * Returns the fields making up the shard key of this type's collection, if any.  The ID field is not included.
+     *
+     * @return the shard key fields in key order or an empty list if the type is not sharded
+     * @see ShardKey
+     * @since 2.1
+     */
+    public List<FieldModel> getShardKeys() {
+        return shardKeys;
+    }
+
+    /**
+     * @return true if this type declares a shard key
+     * @see ShardKey
+     * @since 2.1
+     */
+    public boolean isSharded() {
+        return getAnnotation(ShardKey.class) != null;
+    }
+
     /**
      * @return the model for the id field
      */
@@ -385,6 +417,24 @@ public class EntityModel {
         }
     }
 
+    private List<FieldModel> findShardKeys() {
+        ShardKey shardKey = getAnnotation(ShardKey.class);
+        if (shardKey == null) {
+            return List.of();
+        }
+        List<FieldModel> keys = new ArrayList<>();
+        for (String name : shardKey.value()) {
+            FieldModel field = fieldModelsByField.get(name);
+            if (field == null) {
+                throw new MappingException(Sofia.unknownShardKeyField(type.getName(), name));
+            }
+            if (!field.equals(idField)) {
+                keys.add(field);
+            }
+        }
+        return List.copyOf(keys);
+    }
+
     private List<Method> getDeclaredAndInheritedMethods(Class<?> type) {
         final List<Method> methods = new ArrayList<>();
         if ((type == null) || (type == Object.class)) {
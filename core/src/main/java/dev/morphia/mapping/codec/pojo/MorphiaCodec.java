@@ -11,6 +11,7 @@ import org.bson.codecs.Codec;
 import org.bson.codecs.CollectibleCodec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.IdGenerator;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PropertyCodecProvider;
 import org.bson.codecs.pojo.PropertyCodecRegistry;
@@ -32,12 +33,14 @@ import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 @SuppressWarnings("unchecked")
 public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private final FieldModel idField;
+    private final Datastore datastore;
     private final Mapper mapper;
     private final EntityModel entityModel;
     private final CodecRegistry registry;
     private final PropertyCodecRegistry propertyCodecRegistry;
     private final DiscriminatorLookup discriminatorLookup;
     private final EntityEncoder encoder = new EntityEncoder(this);
+    private EntityDecoder decoder;
 
     /**
      * Creates a new codec
@@ -51,6 +54,7 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     public MorphiaCodec(Datastore datastore, EntityModel model,
                         List<PropertyCodecProvider> propertyCodecProviders,
                         DiscriminatorLookup discriminatorLookup, CodecRegistry registry) {
+        this.datastore = datastore;
         this.mapper = datastore.getMapper();
         this.discriminatorLookup = discriminatorLookup;
 
@@ -63,7 +67,19 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
 
     @Override
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        return (T) getDecoder().decode(reader, decoderContext);
+        return (T) decoder().decode(reader, decoderContext);
+    }
+
+    /**
+     * Decodes a document in to an existing entity rather than creating a new instance
+     *
+     * @param reader         the reader to read from
+     * @param entity         the entity to update
+     * @param decoderContext the decoder context
+     * @since 2.1
+     */
+    public void decode(BsonReader reader, T entity, DecoderContext decoderContext) {
+        decoder().decodeInto(reader, decoderContext, entity);
     }
 
     @Override
@@ -78,6 +94,12 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return entityModel;
     }
 
+    /**
+     * Creates the decoder for this codec.  This is called once and the decoder is then shared across every decode so it must not
+     * hold any per document state.
+     *
+     * @return the decoder
+     */
     protected EntityDecoder getDecoder() {
         return new EntityDecoder(this);
     }
@@ -96,7 +118,10 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     @Override
     public Object generateIdIfAbsentFromDocument(Object entity) {
         if (!documentHasId(entity)) {
-            idField.setValue(entity, convert(new ObjectId(), idField.getType()));
+            IdGenerator generator = encoder.getIdGenerator();
+            idField.setValue(entity, generator != null && generator != EntityEncoder.OBJECT_ID_GENERATOR
+                                     ? generator.generate()
+                                     : convert(new ObjectId(), idField.getType()));
         }
         return entity;
     }
@@ -125,6 +150,14 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
 */
     }
 
+    /**
+     * @return the datastore being used
+     * @since 2.1
+     */
+    public Datastore getDatastore() {
+        return datastore;
+    }
+
     /**
      * @return the mapper being used
      */
@@ -132,6 +165,15 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return mapper;
     }
 
+    private EntityDecoder decoder() {
+        EntityDecoder current = decoder;
+        if (current == null) {
+            current = getDecoder();
+            decoder = current;
+        }
+        return current;
+    }
+
     DiscriminatorLookup getDiscriminatorLookup() {
         return discriminatorLookup;
     }
@@ -5,6 +5,7 @@ import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
 import dev.morphia.Key;
 import dev.morphia.annotations.Reference;
+import dev.morphia.jfr.ProxyCreationEvent;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.Conversions;
@@ -51,6 +52,8 @@ import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.docum
  */
 @SuppressWarnings("unchecked")
 public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHandler {
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
     private final Reference annotation;
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
 
@@ -159,7 +162,7 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
             DocumentWriter writer = new DocumentWriter();
             document(writer, () -> {
                 writer.writeName("ref");
-                encode(writer, value, EncoderContext.builder().build());
+                encode(writer, value, ENCODER_CONTEXT);
             });
             return writer.getDocument().get("ref");
         } catch (ReferenceException e) {
@@ -215,9 +218,11 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
     }
 
     private <T> T createProxy(MorphiaReference reference) {
+        ProxyCreationEvent event = new ProxyCreationEvent();
+        event.begin();
         ReferenceProxy referenceProxy = new ReferenceProxy(reference);
+        Class<?> type = getField().getType();
         try {
-            Class<?> type = getField().getType();
             String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
             return ((Loaded<T>) new ByteBuddy()
                                     .subclass(type)
@@ -237,6 +242,11 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
                        .newInstance();
         } catch (ReflectiveOperationException | IllegalArgumentException e) {
             throw new MappingException(e.getMessage(), e);
+        } finally {
+            if (event.shouldCommit()) {
+                event.proxiedType(type);
+                event.commit();
+            }
         }
     }
 
@@ -257,14 +267,19 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
             reference = readSingle(value);
         }
         reference.ignoreMissing(annotation.ignoreMissing());
-
-        return !annotation.lazy() ? reference.get() : createProxy(reference);
+        if (!annotation.lazy()) {
+            return reference.get();
+        }
+        if (reference instanceof SingleReference) {
+            ((SingleReference<?>) reference).joinLoadGroup();
+        }
+        return createProxy(reference);
     }
 
     MorphiaReference readDocument(Document value) {
         Mapper mapper = getDatastore().getMapper();
         final Object id = mapper.getCodecRegistry().get(Object.class)
-                                .decode(new DocumentReader(value), DecoderContext.builder().build());
+                                .decode(new DocumentReader(value), DECODER_CONTEXT);
         return readSingle(id);
     }
 
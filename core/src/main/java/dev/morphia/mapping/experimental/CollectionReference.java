@@ -3,11 +3,13 @@ package dev.morphia.mapping.experimental;
 import com.mongodb.DBRef;
 import com.mongodb.client.MongoCursor;
 import dev.morphia.Datastore;
+import dev.morphia.jfr.ReferenceResolutionEvent;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.codec.references.ReferenceCodec;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.sofia.Sofia;
 
 import java.util.ArrayList;
@@ -158,7 +160,10 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
     abstract Collection<?> getValues();
 
     Map<Object, Object> query(String collection, List<Object> collectionIds) {
-
+        MorphiaMetrics metrics = getDatastore().getMapper().getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
+        ReferenceResolutionEvent event = new ReferenceResolutionEvent();
+        event.begin();
         final Map<Object, Object> idMap = new HashMap<>();
         try (MongoCursor<?> cursor = getDatastore().find(collection)
                                                    .disableValidation()
@@ -167,6 +172,13 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
                 final Object entity = cursor.next();
                 idMap.put(getDatastore().getMapper().getId(entity), entity);
             }
+            if (metrics != null) {
+                metrics.referenceFetch(collection, idMap.size(), System.nanoTime() - start);
+            }
+            if (event.shouldCommit()) {
+                event.resolved(collection, collectionIds.size(), idMap.size());
+                event.commit();
+            }
 
             if (!ignoreMissing() && idMap.size() != collectionIds.size()) {
                 throw new ReferenceException(
@@ -22,7 +22,7 @@ import java.util.Set;
 public abstract class MorphiaReference<T> {
     private Datastore datastore;
     private boolean ignoreMissing;
-    private boolean resolved;
+    private volatile boolean resolved;
 
     MorphiaReference() {
     }
@@ -28,6 +28,7 @@ import static dev.morphia.mapping.codec.references.ReferenceCodec.processId;
 @SuppressWarnings("unchecked")
 public class MorphiaReferenceCodec extends PropertyCodec<MorphiaReference> implements PropertyHandler {
 
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
     private final Mapper mapper;
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
 
@@ -72,7 +73,7 @@ public class MorphiaReferenceCodec extends PropertyCodec<MorphiaReference> imple
         DocumentWriter writer = new DocumentWriter();
         document(writer, () -> {
             writer.writeName("ref");
-            encode(writer, wrap, EncoderContext.builder().build());
+            encode(writer, wrap, ENCODER_CONTEXT);
         });
         return writer.getDocument().get("ref");
     }
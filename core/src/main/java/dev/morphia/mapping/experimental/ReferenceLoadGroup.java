@@ -0,0 +1,109 @@
+package dev.morphia.mapping.experimental;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.jfr.ReferenceResolutionEvent;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.query.FindOptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.morphia.query.experimental.filters.Filters.in;
+
+/**
+ * A group of unresolved lazy references to entities in the same collection.  The first reference used loads every reference still
+ * unresolved in the group with a single query.
+ *
+ * @morphia.internal
+ * @see ReferenceLoadScope
+ * @see dev.morphia.mapping.MapperOptions#getReferenceBatchSize()
+ * @since 2.1
+ */
+public class ReferenceLoadGroup {
+    private final Datastore datastore;
+    private final ClientSession session;
+    private final String collection;
+    private final int capacity;
+    private final List<SingleReference<?>> references = new ArrayList<>();
+    private boolean loaded;
+
+    /**
+     * Creates a group
+     *
+     * @param datastore  the datastore to load the references with
+     * @param session    the session to load the references in or null
+     * @param collection the collection holding the referenced entities
+     * @param capacity   the maximum number of references in the group
+     * @param reference  the first reference in the group
+     */
+    public ReferenceLoadGroup(Datastore datastore, ClientSession session, String collection, int capacity,
+                              SingleReference<?> reference) {
+        this.datastore = datastore;
+        this.session = session;
+        this.collection = collection;
+        this.capacity = capacity;
+        references.add(reference);
+    }
+
+    /**
+     * Adds a reference to this group
+     *
+     * @param reference the reference to add
+     * @return true if the reference was added.  False if the group is full or has already been loaded.
+     */
+    public synchronized boolean add(SingleReference<?> reference) {
+        if (loaded || references.size() >= capacity) {
+            return false;
+        }
+        return references.add(reference);
+    }
+
+    /**
+     * Loads the unresolved references of this group.  References to missing entities are left unresolved.
+     */
+    synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        List<Object> ids = new ArrayList<>(references.size());
+        for (SingleReference<?> reference : references) {
+            if (!reference.isResolved()) {
+                ids.add(reference.getReferencedId());
+            }
+        }
+
+        Mapper mapper = datastore.getMapper();
+        MorphiaMetrics metrics = mapper.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
+        ReferenceResolutionEvent event = new ReferenceResolutionEvent();
+        event.begin();
+        Map<Object, Object> found = new HashMap<>();
+        try (MongoCursor<?> cursor = datastore.find(collection)
+                                              .disableValidation()
+                                              .filter(in("_id", ids))
+                                              .iterator(new FindOptions().clientSession(session))) {
+            while (cursor.hasNext()) {
+                Object entity = cursor.next();
+                found.put(mapper.getId(entity), entity);
+            }
+        }
+        if (metrics != null) {
+            metrics.referenceFetch(collection, found.size(), System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.resolved(collection, ids.size(), found.size());
+            event.commit();
+        }
+
+        for (SingleReference<?> reference : references) {
+            reference.loaded(found.get(reference.getReferencedId()));
+        }
+        references.clear();
+    }
+}
@@ -0,0 +1,177 @@
+package dev.morphia.mapping.experimental;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import org.bson.BsonReader;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Holds the open {@link ReferenceLoadGroup}s of a single cursor.  Lazy references only join a group while their entity is decoded
+ * within a scope so references from different cursors are never loaded together.  Groups are loaded with the datastore and session
+ * of the query that created the scope.
+ * <p>
+ * The scope is only made current on a thread for the duration of each call that decodes results so no thread holds on to it after
+ * the call returns.  Closing the cursor closes the open groups of the scope.
+ *
+ * @morphia.internal
+ * @see dev.morphia.mapping.MapperOptions#getReferenceBatchSize()
+ * @since 2.1
+ */
+public class ReferenceLoadScope {
+    private static final ThreadLocal<ReferenceLoadScope> CURRENT = new ThreadLocal<>();
+
+    private final Datastore datastore;
+    private final ClientSession session;
+    private final int capacity;
+    private final Map<String, ReferenceLoadGroup> groups = new HashMap<>();
+
+    /**
+     * Creates a scope
+     *
+     * @param datastore the datastore to load references with
+     * @param session   the session to load references in or null
+     */
+    public ReferenceLoadScope(Datastore datastore, ClientSession session) {
+        this.datastore = datastore;
+        this.session = session;
+        capacity = datastore.getMapper().getOptions().getReferenceBatchSize();
+    }
+
+    /**
+     * @return the scope current on this thread or null
+     */
+    static ReferenceLoadScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs an action with this scope current on the calling thread
+     *
+     * @param action the action to run
+     * @param <V>    the type of the result
+     * @return the result of the action
+     */
+    public <V> V run(Supplier<V> action) {
+        if (!isEnabled()) {
+            return action.get();
+        }
+        ReferenceLoadScope previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Wraps a cursor so that the results it decodes join this scope's groups
+     *
+     * @param cursor the cursor to wrap
+     * @param <T>    the type of the results
+     * @return the cursor to use
+     */
+    public <T> MongoCursor<T> wrap(MongoCursor<T> cursor) {
+        return isEnabled() ? new ScopedCursor<>(cursor, this) : cursor;
+    }
+
+    /**
+     * Wraps a decoder so that the entities it decodes join this scope's groups
+     *
+     * @param decoder the decoder to wrap
+     * @param <T>     the type of the results
+     * @return the decoder to use
+     */
+    public <T> Decoder<T> wrap(Decoder<T> decoder) {
+        if (!isEnabled()) {
+            return decoder;
+        }
+        return (BsonReader reader, DecoderContext context) -> run(() -> decoder.decode(reader, context));
+    }
+
+    /**
+     * Adds a lazy reference to the open group for a collection.  A new group is opened when the current one is full or has already
+     * been loaded.
+     *
+     * @param collection the collection holding the referenced entity
+     * @param reference  the reference to add
+     * @return the group the reference was added to
+     */
+    synchronized ReferenceLoadGroup join(String collection, SingleReference<?> reference) {
+        return groups.compute(collection, (name, group) -> group != null && group.add(reference)
+                                                           ? group
+                                                           : new ReferenceLoadGroup(datastore, session, name, capacity, reference));
+    }
+
+    /**
+     * Closes the open groups.  References already in a group can still be loaded with it.
+     */
+    synchronized void close() {
+        groups.clear();
+    }
+
+    private boolean isEnabled() {
+        return capacity > 1;
+    }
+
+    private static final class ScopedCursor<T> implements MongoCursor<T> {
+        private final MongoCursor<T> wrapped;
+        private final ReferenceLoadScope scope;
+
+        private ScopedCursor(MongoCursor<T> wrapped, ReferenceLoadScope scope) {
+            this.wrapped = wrapped;
+            this.scope = scope;
+        }
+
+        @Override
+        public void close() {
+            try {
+                wrapped.close();
+            } finally {
+                scope.close();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return scope.run(wrapped::hasNext);
+        }
+
+        @Override
+        public T next() {
+            return scope.run(wrapped::next);
+        }
+
+        @Override
+        public T tryNext() {
+            return scope.run(wrapped::tryNext);
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return wrapped.getServerCursor();
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return wrapped.getServerAddress();
+        }
+
+        @Override
+        public void remove() {
+            wrapped.remove();
+        }
+    }
+}
@@ -2,10 +2,12 @@ package dev.morphia.mapping.experimental;
 
 import com.mongodb.DBRef;
 import dev.morphia.Datastore;
+import dev.morphia.jfr.ReferenceResolutionEvent;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.Query;
 import dev.morphia.sofia.Sofia;
 import org.bson.Document;
@@ -22,7 +24,8 @@ import static dev.morphia.query.experimental.filters.Filters.eq;
 public class SingleReference<T> extends MorphiaReference<T> {
     private EntityModel entityModel;
     private Object id;
-    private T value;
+    private volatile T value;
+    private volatile ReferenceLoadGroup group;
 
     /**
      * @param datastore   the datastore to use
@@ -68,8 +71,25 @@ public class SingleReference<T> extends MorphiaReference<T> {
 
     @Override
     public T get() {
+        if (!isResolved() && value == null && id != null && group != null) {
+            ReferenceLoadGroup loading = group;
+            group = null;
+            loading.load();
+        }
         if (!isResolved() && value == null && id != null) {
+            MorphiaMetrics metrics = getDatastore().getMapper().getMetrics();
+            long start = metrics != null ? System.nanoTime() : 0;
+            ReferenceResolutionEvent event = new ReferenceResolutionEvent();
+            event.begin();
             value = (T) buildQuery().iterator().tryNext();
+            String collection = getCollectionName();
+            if (metrics != null) {
+                metrics.referenceFetch(collection, value != null ? 1 : 0, System.nanoTime() - start);
+            }
+            if (event.shouldCommit()) {
+                event.resolved(collection, 1, value != null ? 1 : 0);
+                event.commit();
+            }
             if (value == null && !ignoreMissing()) {
                 throw new ReferenceException(
                     Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
@@ -117,6 +137,21 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return List.of(id);
     }
 
+    /**
+     * Adds this reference to the open load group for its collection so that it is loaded along with the other lazy references to
+     * that collection decoded by the same cursor.  Has no effect when grouping is disabled or when decoding outside of a cursor.
+     *
+     * @morphia.internal
+     * @see ReferenceLoadScope
+     * @since 2.1
+     */
+    public void joinLoadGroup() {
+        ReferenceLoadScope scope = ReferenceLoadScope.current();
+        if (scope != null && !isResolved() && id != null) {
+            group = scope.join(getCollectionName(), this);
+        }
+    }
+
     EntityModel getEntityModel(Mapper mapper) {
         if (entityModel == null) {
             entityModel = mapper.getEntityModel(get().getClass());
@@ -125,6 +160,26 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return entityModel;
     }
 
+    Object getReferencedId() {
+        return id instanceof DBRef ? ((DBRef) id).getId() : id;
+    }
+
+    /**
+     * Fills in the value found by a {@link ReferenceLoadGroup}.  References to missing entities are left unresolved to be looked up
+     * and reported on their own when used.
+     */
+    void loaded(Object found) {
+        group = null;
+        if (!isResolved() && found != null) {
+            value = (T) found;
+            resolve();
+        }
+    }
+
+    private String getCollectionName() {
+        return id instanceof DBRef ? ((DBRef) id).getCollectionName() : entityModel.getCollectionName();
+    }
+
     @Override
     public Object encode(Mapper mapper, Object value, FieldModel optionalExtraInfo) {
         if (isResolved()) {
@@ -0,0 +1,159 @@
+package dev.morphia.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram.  Values are counted in power of two buckets so recording a value is a handful of uncontended
+ * additions regardless of how many threads are recording.  Percentiles are therefore approximate and reported as the upper bound
+ * of the bucket containing them.
+ *
+ * @morphia.experimental
+ * @since 2.1
+ */
+public class Histogram {
+    private static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAdder items = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates an empty histogram
+     */
+    public Histogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a value
+     *
+     * @param nanos     the duration to record
+     * @param itemCount the number of items processed in that time
+     */
+    public void record(long nanos, long itemCount) {
+        long value = Math.max(nanos, 0);
+        buckets[BUCKETS - 1 - Long.numberOfLeadingZeros(value | 1)].increment();
+        count.increment();
+        total.add(value);
+        items.add(itemCount);
+        max.accumulate(value);
+    }
+
+    /**
+     * Clears all recorded values.  Values recorded concurrently with a reset may or may not survive it.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        total.reset();
+        items.reset();
+        max.reset();
+    }
+
+    /**
+     * @return a point in time copy of the recorded values
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(counts, count.sum(), total.sum(), items.sum(), max.get());
+    }
+
+    /**
+     * A point in time copy of a histogram
+     */
+    public static class Snapshot {
+        private final long[] buckets;
+        private final long count;
+        private final long total;
+        private final long items;
+        private final long max;
+
+        Snapshot(long[] buckets, long count, long total, long items, long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.total = total;
+            this.items = items;
+            this.max = max;
+        }
+
+        /**
+         * @return the number of values recorded
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the number of items processed across all recorded values
+         */
+        public long getItems() {
+            return items;
+        }
+
+        /**
+         * @param unit the unit to report in
+         * @return the largest value recorded
+         */
+        public long getMax(TimeUnit unit) {
+            return unit.convert(max, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @param unit the unit to report in
+         * @return the mean of the recorded values
+         */
+        public double getMean(TimeUnit unit) {
+            return count == 0 ? 0 : (double) total / count / unit.toNanos(1);
+        }
+
+        /**
+         * Estimates a percentile.  The result is the upper bound of the bucket holding the requested percentile capped at the
+         * largest value recorded.
+         *
+         * @param percentile the percentile to find, between 0 and 100
+         * @param unit       the unit to report in
+         * @return the estimated value
+         */
+        public long getPercentile(double percentile, TimeUnit unit) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(count * Math.min(Math.max(percentile, 0), 100) / 100));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= target) {
+                    long upper = i >= Long.SIZE - 2 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                    return unit.convert(Math.min(upper, max), TimeUnit.NANOSECONDS);
+                }
+            }
+            return unit.convert(max, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @param unit the unit to report in
+         * @return the sum of the recorded values
+         */
+        public long getTotal(TimeUnit unit) {
+            return unit.convert(total, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, items=%d, mean=%.1fus, p50=%dus, p99=%dus, max=%dus", count, items,
+                getMean(TimeUnit.MICROSECONDS), getPercentile(50, TimeUnit.MICROSECONDS), getPercentile(99, TimeUnit.MICROSECONDS),
+                getMax(TimeUnit.MICROSECONDS));
+        }
+    }
+}
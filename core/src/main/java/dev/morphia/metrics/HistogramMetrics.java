@@ -0,0 +1,79 @@
+package dev.morphia.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates the reported timings in to a {@link Histogram} per operation and target.  The histograms are named after the
+ * operation and the type or collection involved, e.g. {@code encode:com.example.Book}, {@code query:books}, or
+ * {@code write.insert:books}, and can be polled at any time via {@link #snapshot()}.
+ * <pre>
+ * HistogramMetrics metrics = new HistogramMetrics();
+ * datastore.getMapper().setMetrics(metrics);
+ * ...
+ * metrics.snapshot().forEach((name, snapshot) -&gt; LOG.info(name + ": " + snapshot));
+ * </pre>
+ *
+ * @morphia.experimental
+ * @since 2.1
+ */
+public class HistogramMetrics implements MorphiaMetrics {
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void decode(Class<?> type, long nanos) {
+        histogram("decode:" + type.getName()).record(nanos, 1);
+    }
+
+    @Override
+    public void encode(Class<?> type, long nanos) {
+        histogram("encode:" + type.getName()).record(nanos, 1);
+    }
+
+    @Override
+    public void query(String collection, long nanos) {
+        histogram("query:" + collection).record(nanos, 1);
+    }
+
+    @Override
+    public void referenceFetch(String collection, long count, long nanos) {
+        histogram("fetch:" + collection).record(nanos, count);
+    }
+
+    @Override
+    public void write(String collection, WriteOperation operation, long count, long nanos) {
+        histogram("write." + operation.name().toLowerCase() + ":" + collection).record(nanos, count);
+    }
+
+    /**
+     * Finds a histogram by name
+     *
+     * @param name the name of the histogram
+     * @return the histogram or null if nothing has been recorded under that name
+     */
+    public Histogram getHistogram(String name) {
+        return histograms.get(name);
+    }
+
+    /**
+     * Clears the recorded values of every histogram
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * @return a point in time copy of every histogram sorted by name
+     */
+    public Map<String, Histogram.Snapshot> snapshot() {
+        Map<String, Histogram.Snapshot> snapshots = new TreeMap<>();
+        histograms.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return snapshots;
+    }
+
+    private Histogram histogram(String name) {
+        Histogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, n -> new Histogram());
+    }
+}
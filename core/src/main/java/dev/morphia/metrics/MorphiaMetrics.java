@@ -0,0 +1,75 @@
+package dev.morphia.metrics;
+
+/**
+ * Receives timings and counters from the mapping, query, and write paths.  An implementation is registered via
+ * {@link dev.morphia.mapping.Mapper#setMetrics(MorphiaMetrics)}.  When none is registered, no clock is read and nothing is
+ * recorded.
+ * <p>
+ * Implementations are called on the application threads performing the work and so must be thread safe and should return
+ * quickly.  All durations are given in nanoseconds.
+ *
+ * @morphia.experimental
+ * @see HistogramMetrics
+ * @since 2.1
+ */
+public interface MorphiaMetrics {
+    /**
+     * The kinds of write operations reported via {@link #write(String, WriteOperation, long, long)}
+     */
+    enum WriteOperation {
+        BULK,
+        DELETE,
+        INSERT,
+        SAVE,
+        UPDATE
+    }
+
+    /**
+     * Called after an entity has been decoded.  The time includes decoding any nested entities.
+     *
+     * @param type  the mapped type
+     * @param nanos the time taken
+     */
+    default void decode(Class<?> type, long nanos) {
+    }
+
+    /**
+     * Called after an entity has been encoded.  The time includes encoding any nested entities.
+     *
+     * @param type  the mapped type
+     * @param nanos the time taken
+     */
+    default void encode(Class<?> type, long nanos) {
+    }
+
+    /**
+     * Called after a query has been sent and its cursor opened.  This includes the round trip for the first batch but not the
+     * time spent iterating the results.
+     *
+     * @param collection the collection queried
+     * @param nanos      the time taken
+     */
+    default void query(String collection, long nanos) {
+    }
+
+    /**
+     * Called after a reference fetch has completed
+     *
+     * @param collection the collection holding the referenced entities
+     * @param count      the number of entities fetched
+     * @param nanos      the time taken
+     */
+    default void referenceFetch(String collection, long count, long nanos) {
+    }
+
+    /**
+     * Called after a write has completed
+     *
+     * @param collection the collection written to
+     * @param operation  the kind of write
+     * @param count      the number of documents affected
+     * @param nanos      the time taken
+     */
+    default void write(String collection, WriteOperation operation, long count, long nanos) {
+    }
+}
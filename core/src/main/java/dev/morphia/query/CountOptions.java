@@ -20,6 +20,7 @@ import com.mongodb.ReadConcern;
 import com.mongodb.ReadPreference;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.EstimatedDocumentCountOptions;
 import dev.morphia.internal.SessionConfigurable;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -36,6 +37,7 @@ public class CountOptions extends com.mongodb.client.model.CountOptions implemen
     private ReadPreference readPreference;
     private ReadConcern readConcern;
     private ClientSession clientSession;
+    private boolean estimate;
 
     @Override
     public CountOptions clientSession(ClientSession clientSession) {
@@ -48,6 +50,30 @@ public class CountOptions extends com.mongodb.client.model.CountOptions implemen
         return clientSession;
     }
 
+    /**
+     * Allows the count to be answered from the collection's metadata rather than by counting documents.  This is only done when the
+     * query has no filters and neither a skip nor a limit is set and no session is in use.  Otherwise the documents are counted as
+     * usual.  An estimate can be wrong after an unclean shutdown or while orphaned documents exist on a sharded cluster.
+     *
+     * @param estimate true to allow an estimated count
+     * @return this
+     * @mongodb.driver.manual reference/method/db.collection.estimatedDocumentCount/ estimatedDocumentCount
+     * @since 2.1
+     */
+    public CountOptions estimate(boolean estimate) {
+        this.estimate = estimate;
+        return this;
+    }
+
+    /**
+     * @return true if the count may be estimated
+     * @see #estimate(boolean)
+     * @since 2.1
+     */
+    public boolean isEstimate() {
+        return estimate;
+    }
+
     /**
      * Defines the index hint value
      *
@@ -152,5 +178,12 @@ public class CountOptions extends com.mongodb.client.model.CountOptions implemen
         this.readPreference = readPreference;
         return this;
     }
-}
 
+    boolean canEstimate(Document query, ClientSession session) {
+        return estimate && session == null && query.isEmpty() && getSkip() == 0 && getLimit() == 0;
+    }
+
+    EstimatedDocumentCountOptions estimatedOptions() {
+        return new EstimatedDocumentCountOptions().maxTime(getMaxTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,19 @@
+package dev.morphia.query;
+
+/**
+ * The formats results can be exported in
+ *
+ * @morphia.experimental
+ * @see Query#exportTo(java.io.OutputStream, ExportFormat, FindOptions)
+ * @since 2.1
+ */
+public enum ExportFormat {
+    /**
+     * Each document is written as its raw BSON bytes back to back, the same layout {@code mongodump} and {@code bsondump} use
+     */
+    BSON,
+    /**
+     * Each document is written as relaxed Extended JSON followed by a newline
+     */
+    JSON
+}
@@ -35,6 +35,7 @@ import org.bson.types.ObjectId;
 
 import java.util.Map.Entry;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -68,6 +69,10 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
     private Projection projection;
     private String queryLogId;
     private ClientSession clientSession;
+    private int prefetch;
+    private Executor prefetchExecutor;
+    private Executor decodeExecutor;
+    private boolean orderedDecode = true;
 
     /**
      * Creates an instance with default values
@@ -213,10 +218,24 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         this.projection = original.projection;
         this.queryLogId = original.queryLogId;
         this.clientSession = original.clientSession;
+        this.prefetch = original.prefetch;
+        this.prefetchExecutor = original.prefetchExecutor;
+        this.decodeExecutor = original.decodeExecutor;
+        this.orderedDecode = original.orderedDecode;
 
         return this;
     }
 
+    /**
+     * @return a copy of these options which fetches only the {@code _id} of the first match.  Any projection is dropped rather than
+     * shared with the copy.
+     */
+    FindOptions copyForExists() {
+        FindOptions copy = copy().limit(1);
+        copy.projection = null;
+        return copy.projection().include("_id");
+    }
+
     /**
      * Sets the cursor type
      *
@@ -228,6 +247,23 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * Enables decoding the results on the given executor.  Results are read from the server as raw documents and decoded in chunks
+     * in parallel.  By default results are still returned in the order the server sent them.  Any lifecycle methods and
+     * {@link dev.morphia.EntityInterceptor}s run on the executor's threads and so must be thread safe.
+     *
+     * @param decodeExecutor the executor to decode on, e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}, or null to decode
+     *                       on the consuming thread
+     * @return this
+     * @morphia.experimental
+     * @see #orderedDecode(boolean)
+     * @since 2.1
+     */
+    public FindOptions decodeExecutor(Executor decodeExecutor) {
+        this.decodeExecutor = decodeExecutor;
+        return this;
+    }
+
     /**
      * @return the batch size
      */
@@ -256,6 +292,14 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this.cursorType;
     }
 
+    /**
+     * @return the executor used to decode results or null if they are decoded on the consuming thread
+     * @since 2.1
+     */
+    public Executor getDecodeExecutor() {
+        return decodeExecutor;
+    }
+
     /**
      * @return the index hint
      */
@@ -302,6 +346,22 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this.min;
     }
 
+    /**
+     * @return the number of batches to read ahead of the consumer or 0 if prefetching is disabled
+     * @since 2.1
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * @return the executor to read ahead on
+     * @since 2.1
+     */
+    public Executor getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
     /**
      * @return the projection
      */
@@ -369,6 +429,10 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
                    .add("readPreference=" + readPreference)
                    .add("projection=" + projection)
                    .add("queryLogId='" + queryLogId + "'")
+                   .add("prefetch=" + prefetch)
+                   .add("prefetchExecutor=" + prefetchExecutor)
+                   .add("decodeExecutor=" + decodeExecutor)
+                   .add("orderedDecode=" + orderedDecode)
                    .toString();
     }
 
@@ -436,6 +500,14 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this.oplogReplay;
     }
 
+    /**
+     * @return true if results decoded on an executor are returned in the order the server sent them
+     * @since 2.1
+     */
+    public boolean isOrderedDecode() {
+        return orderedDecode;
+    }
+
     /**
      * @return are partial results enabled
      */
@@ -574,6 +646,21 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * Sets whether results decoded on an executor are returned in the order the server sent them.  Unordered results are returned
+     * as soon as they are decoded which gives the highest throughput when order does not matter.  This has no effect unless a
+     * {@link #decodeExecutor(Executor) decode executor} is set.
+     *
+     * @param orderedDecode true to preserve the order of the results
+     * @return this
+     * @morphia.experimental
+     * @since 2.1
+     */
+    public FindOptions orderedDecode(boolean orderedDecode) {
+        this.orderedDecode = orderedDecode;
+        return this;
+    }
+
     /**
      * Get partial results from a sharded cluster if one or more shards are unreachable (instead of throwing an error).
      *
@@ -585,6 +672,24 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * Enables reading ahead of the consumer.  Results are fetched and decoded on a thread of the given executor so that the round
+     * trips to the server and the decoding of each batch overlap with the processing of earlier results.  At most the given number
+     * of batches are buffered ahead of the consumer.  Each open cursor holds one of the executor's threads so cursors using this
+     * option must be closed or fully iterated to release it.
+     *
+     * @param batches  the number of batches to buffer or 0 to disable prefetching
+     * @param executor the executor to read ahead on
+     * @return this
+     * @morphia.experimental
+     * @since 2.1
+     */
+    public FindOptions prefetch(int batches, Executor executor) {
+        this.prefetch = batches;
+        this.prefetchExecutor = executor;
+        return this;
+    }
+
     /**
      * @return the projection
      */
@@ -10,20 +10,30 @@ import dev.morphia.Datastore;
 import dev.morphia.DatastoreImpl;
 import dev.morphia.DeleteOptions;
 import dev.morphia.annotations.Entity;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.jfr.QueryEvent;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.experimental.ReferenceLoadScope;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.Exporter;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.ParallelDecodingCursor;
+import dev.morphia.query.internal.PrefetchingCursor;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.query.CriteriaJoin.AND;
@@ -81,7 +91,7 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         mapper = this.datastore.getMapper();
         model = mapper.getEntityModel(clazz);
         if (collectionName != null) {
-            this.collection = datastore.getDatabase().getCollection(collectionName, clazz);
+            this.collection = mapper.getCollection(collectionName, clazz);
             this.collectionName = collectionName;
         } else {
             this.collection = mapper.getCollection(clazz);
@@ -152,8 +162,12 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
     @Override
     public long count(CountOptions options) {
         ClientSession session = datastore.findSession(options);
-        return session == null ? getCollection().countDocuments(getQueryDocument(), options)
-                               : getCollection().countDocuments(session, getQueryDocument(), options);
+        Document query = getQueryDocument();
+        if (options.canEstimate(query, session)) {
+            return getCollection().estimatedDocumentCount(options.estimatedOptions());
+        }
+        return session == null ? getCollection().countDocuments(query, options)
+                               : getCollection().countDocuments(session, query, options);
     }
 
     @Override
@@ -171,6 +185,12 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         }
     }
 
+    @Override
+    public <V> List<V> distinct(String field, Class<V> type, FindOptions options) {
+        PathTarget target = new PathTarget(mapper, clazz, field, validateName);
+        return MorphiaQuery.distinct(datastore, getCollection(), target, getQueryDocument(), type, options);
+    }
+
     @Override
     public Query<T> disableValidation() {
         validateName = false;
@@ -206,6 +226,14 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return iterator(options);
     }
 
+    @Override
+    public boolean exists(FindOptions options) {
+        try (MongoCursor<RawBsonDocument> cursor = prepareCursor(options.copyForExists(),
+            getCollection().withDocumentClass(RawBsonDocument.class))) {
+            return cursor.hasNext();
+        }
+    }
+
     @Override
     public Map<String, Object> explain(FindOptions options) {
         return new LinkedHashMap<>(datastore.getDatabase()
@@ -214,6 +242,11 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
                                                     .append("filter", getQueryDocument()))));
     }
 
+    @Override
+    public long exportTo(OutputStream out, ExportFormat format, FindOptions options) {
+        return Exporter.export(prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class)), out, format);
+    }
+
     @Override
     public FieldEnd<? extends Query<T>> field(String name) {
         return new FieldEndImpl<>(mapper, name, this, model, this.isValidatingNames());
@@ -267,7 +300,15 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        if (options.getDecodeExecutor() != null) {
+            MongoCursor<RawBsonDocument> cursor = prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class));
+            return new MorphiaCursor<>(new ParallelDecodingCursor<>(
+                PrefetchingCursor.wrap(cursor, options.getPrefetch(), options.getBatchSize(), options.getPrefetchExecutor()),
+                new ReferenceLoadScope(datastore, datastore.findSession(options)).wrap(mapper.getCodecRegistry().get(clazz)),
+                options.getDecodeExecutor(), options.isOrderedDecode()));
+        }
+        return new MorphiaCursor<>(PrefetchingCursor.wrap(prepareCursor(options, getCollection()), options.getPrefetch(),
+            options.getBatchSize(), options.getPrefetchExecutor()));
     }
 
     @Override
@@ -282,7 +323,7 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
                                                  .include("_id");
 
         return new MorphiaKeyCursor<>(prepareCursor(returnKey,
-            datastore.getDatabase().getCollection(getCollectionName())), datastore.getMapper(),
+            getCollection().withDocumentClass(Document.class)), datastore.getMapper(),
             clazz, getCollectionName());
     }
 
@@ -291,6 +332,11 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return new Modify<>(datastore, mapper, getCollection(), this, clazz, (UpdateOpsImpl) operations);
     }
 
+    @Override
+    public PartitionedScan<T> partitionedScan(int partitions, FindOptions options) {
+        return new PartitionedScan<>(datastore, this, getCollection(), partitions, options);
+    }
+
     @Override
     public Update<T> update(UpdateOperator first, UpdateOperator... updates) {
         return new Update<>(datastore, mapper, getCollection(), this, clazz, first, updates);
@@ -321,6 +367,11 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return new Update<>(datastore, mapper, getCollection(), this, clazz, (UpdateOpsImpl<T>) operations);
     }
 
+    @Override
+    public Tail<T> tail(Consumer<List<T>> consumer, TailOptions options) {
+        return new Tail<>(getCollection(), this, consumer, options).start();
+    }
+
     /**
      * Converts the query to a Document and updates for any discriminator values as my be necessary
      *
@@ -435,11 +486,19 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         }
 
         obj.putAll(compoundContainer.toDocument());
-        mapper.updateQueryWithDiscriminators(mapper.getEntityModel(getEntityClass()), obj);
+        EntityModel model = mapper.getEntityModel(getEntityClass());
+        mapper.updateQueryWithDiscriminators(model, obj);
+        if (mapper.getOptions().isWarnOnMissingShardKey()) {
+            MorphiaQuery.checkShardKey(model, obj);
+        }
         return obj;
     }
 
     private <E> MongoCursor<E> prepareCursor(FindOptions options, MongoCollection<E> collection) {
+        MorphiaMetrics metrics = mapper.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
+        QueryEvent event = new QueryEvent();
+        event.begin();
         final Document query = this.toDocument();
 
         FindOptions findOptions = getOptions().copy().copy(options);
@@ -458,22 +517,19 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
                                    ? collection.find(clientSession, query)
                                    : collection.find(query);
 
-        Document oldProfile = null;
-        if (findOptions.isLogQuery()) {
-            oldProfile = datastore.getDatabase().runCommand(new Document("profile", 2).append("slowms", 0));
+        // lazy references decoded by this cursor are loaded together, in the query's session
+        ReferenceLoadScope scope = new ReferenceLoadScope(datastore, clientSession);
+        MongoCursor<E> cursor = datastore.profileLoggedQuery(findOptions, () -> scope.wrap(scope.run(() -> findOptions
+                                                                                                  .apply(iterable, mapper, clazz)
+                                                                                                  .iterator())));
+        if (metrics != null) {
+            metrics.query(getCollectionName(), System.nanoTime() - start);
         }
-        try {
-            return findOptions
-                       .apply(iterable, mapper, clazz)
-                       .iterator();
-        } finally {
-            if (findOptions.isLogQuery()) {
-                datastore.getDatabase().runCommand(new Document("profile", oldProfile.get("was"))
-                                                       .append("slowms", oldProfile.get("slowms"))
-                                                       .append("sampleRate", oldProfile.get("sampleRate")));
-            }
-
+        if (event.isEnabled()) {
+            event.target(getCollectionName(), clazz, query);
+            return new RecordingCursor<>(cursor, event);
         }
+        return cursor;
     }
 
     /**
@@ -5,6 +5,8 @@ import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
 import dev.morphia.ModifyOptions;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.metrics.MorphiaMetrics.WriteOperation;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import org.bson.Document;
 
@@ -43,11 +45,18 @@ public class Modify<T> extends UpdateBase<T> {
      * @return the operation result
      */
     public T execute(ModifyOptions options) {
+        MorphiaMetrics metrics = getMapper().getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
         ClientSession session = getDatastore().findSession(options);
         Document update = toDocument();
 
-        return session == null
-               ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toDocument(), update, options)
-               : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toDocument(), update, options);
+        T result = session == null
+                   ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toDocument(), update, options)
+                   : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toDocument(), update, options);
+        if (metrics != null) {
+            metrics.write(getCollection().getNamespace().getCollectionName(), WriteOperation.UPDATE, result != null ? 1 : 0,
+                System.nanoTime() - start);
+        }
+        return result;
     }
 }
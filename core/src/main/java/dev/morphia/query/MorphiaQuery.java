@@ -1,33 +1,54 @@
 package dev.morphia.query;
 
 import com.mongodb.client.ClientSession;
+import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.geojson.Point;
 import com.mongodb.client.result.DeleteResult;
 import dev.morphia.Datastore;
+import dev.morphia.DatastoreImpl;
 import dev.morphia.DeleteOptions;
+import dev.morphia.annotations.ShardKey;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.jfr.QueryEvent;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.experimental.ReferenceLoadScope;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.query.experimental.filters.NearFilter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.Exporter;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.ParallelDecodingCursor;
+import dev.morphia.query.internal.PrefetchingCursor;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
@@ -40,7 +61,8 @@ import static java.lang.String.format;
  */
 public class MorphiaQuery<T> implements Query<T> {
     private static final Logger LOG = LoggerFactory.getLogger(MorphiaQuery.class);
-    private final Datastore datastore;
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+    private final DatastoreImpl datastore;
     private final Class<T> clazz;
     private final Mapper mapper;
     private final String collectionName;
@@ -50,7 +72,7 @@ public class MorphiaQuery<T> implements Query<T> {
     private boolean validate = true;
 
     protected MorphiaQuery(Datastore datastore) {
-        this.datastore = datastore;
+        this.datastore = (DatastoreImpl) datastore;
         mapper = this.datastore.getMapper();
         clazz = null;
         seedQuery = null;
@@ -60,11 +82,11 @@ public class MorphiaQuery<T> implements Query<T> {
 
     protected MorphiaQuery(Datastore datastore, String collectionName, Class<T> clazz) {
         this.clazz = clazz;
-        this.datastore = datastore;
+        this.datastore = (DatastoreImpl) datastore;
         mapper = this.datastore.getMapper();
         seedQuery = null;
         if (collectionName != null) {
-            this.collection = datastore.getDatabase().getCollection(collectionName, clazz);
+            this.collection = mapper.getCollection(collectionName, clazz);
             this.collectionName = collectionName;
         } else if (mapper.isMappable(clazz)) {
             this.collection = mapper.getCollection(clazz);
@@ -77,17 +99,92 @@ public class MorphiaQuery<T> implements Query<T> {
 
     protected MorphiaQuery(Datastore datastore, Class<T> clazz, Document query) {
         this.clazz = clazz;
-        this.datastore = datastore;
+        this.datastore = (DatastoreImpl) datastore;
         this.seedQuery = query;
         mapper = this.datastore.getMapper();
         collection = mapper.getCollection(clazz);
         collectionName = collection.getNamespace().getCollectionName();
     }
 
+    static void checkShardKey(EntityModel model, Document query) {
+        ShardKey shardKey = model != null ? model.getAnnotation(ShardKey.class) : null;
+        if (shardKey != null && shardKey.value().length != 0) {
+            String prefix = model.getField(shardKey.value()[0]).getMappedName();
+            if (!hasPredicate(query, prefix)) {
+                Sofia.logMissingShardKey(model.getCollectionName(), prefix, query);
+            }
+        }
+    }
+
+    /**
+     * Runs a distinct command and decodes the values.  The values are read as raw BSON and each is decoded on its own so that the
+     * codec of the target field can be used rather than the driver's default decoding.
+     */
+    @SuppressWarnings("unchecked")
+    static <V> List<V> distinct(Datastore datastore, MongoCollection<?> collection, PathTarget target, Document query, Class<V> type,
+                                FindOptions options) {
+        FieldModel field = target.getTarget();
+        Decoder<?> decoder = field != null && type.isAssignableFrom(field.getType()) && field.getCachedCodec() != null
+                             ? field.getCachedCodec()
+                             : datastore.getMapper().getCodecRegistry().get(type);
+
+        ClientSession session = datastore.findSession(options);
+        DistinctIterable<BsonValue> iterable = session == null
+                                               ? collection.distinct(target.translatedPath(), query, BsonValue.class)
+                                               : collection.distinct(session, target.translatedPath(), query, BsonValue.class);
+        iterable.collation(options.getCollation())
+                .maxTime(options.getMaxTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+
+        List<V> values = new ArrayList<>();
+        for (BsonValue value : iterable) {
+            if (value.isNull()) {
+                values.add(null);
+            } else {
+                BsonDocumentReader reader = new BsonDocumentReader(new BsonDocument("value", value));
+                reader.readStartDocument();
+                reader.readName();
+                values.add((V) decoder.decode(reader, DECODER_CONTEXT));
+            }
+        }
+        return values;
+    }
+
+    private static boolean hasPredicate(Document query, String name) {
+        if (query.containsKey(name)) {
+            return true;
+        }
+        Object and = query.get("$and");
+        if (and instanceof List) {
+            for (Object clause : (List<?>) and) {
+                if (clause instanceof Document && hasPredicate((Document) clause, name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     static <V> V legacyOperation() {
         throw new UnsupportedOperationException(Sofia.legacyOperation());
     }
 
+    /**
+     * Finds the collection a query targets.  This is not exposed on {@link Query} itself to keep it out of the public API.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the collection the query targets
+     * @morphia.internal
+     */
+    public static <T> MongoCollection<T> collection(Query<T> query) {
+        if (query instanceof MorphiaQuery) {
+            return ((MorphiaQuery<T>) query).getCollection();
+        } else if (query instanceof LegacyQuery) {
+            return ((LegacyQuery<T>) query).getCollection();
+        }
+        throw new IllegalArgumentException(Sofia.unsupportedQueryType(query.getClass().getName()));
+    }
+
     @Override
     public long count() {
         return count(new CountOptions());
@@ -97,6 +194,9 @@ public class MorphiaQuery<T> implements Query<T> {
     public long count(CountOptions options) {
         ClientSession session = datastore.findSession(options);
         Document query = getQueryDocument();
+        if (options.canEstimate(query, session)) {
+            return getCollection().estimatedDocumentCount(options.estimatedOptions());
+        }
         return session == null ? getCollection().countDocuments(query, options)
                                : getCollection().countDocuments(session, query, options);
     }
@@ -116,6 +216,11 @@ public class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    @Override
+    public <V> List<V> distinct(String field, Class<V> type, FindOptions options) {
+        return distinct(datastore, getCollection(), new PathTarget(mapper, clazz, field, validate), getQueryDocument(), type, options);
+    }
+
     @Override
     public Query<T> disableValidation() {
         validate = false;
@@ -128,6 +233,14 @@ public class MorphiaQuery<T> implements Query<T> {
         return this;
     }
 
+    @Override
+    public boolean exists(FindOptions options) {
+        try (MongoCursor<RawBsonDocument> cursor = prepareCursor(options.copyForExists(),
+            getCollection().withDocumentClass(RawBsonDocument.class))) {
+            return cursor.hasNext();
+        }
+    }
+
     @Override
     public Map<String, Object> explain(FindOptions options) {
         return new LinkedHashMap<>(datastore.getDatabase()
@@ -136,6 +249,11 @@ public class MorphiaQuery<T> implements Query<T> {
                                                     .append("filter", getQueryDocument()))));
     }
 
+    @Override
+    public long exportTo(OutputStream out, ExportFormat format, FindOptions options) {
+        return Exporter.export(prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class)), out, format);
+    }
+
     @Override
     @SuppressWarnings({"removal", "unchecked"})
     public FieldEnd<? extends Query<T>> field(String name) {
@@ -198,7 +316,15 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        if (options.getDecodeExecutor() != null) {
+            MongoCursor<RawBsonDocument> cursor = prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class));
+            return new MorphiaCursor<>(new ParallelDecodingCursor<>(
+                PrefetchingCursor.wrap(cursor, options.getPrefetch(), options.getBatchSize(), options.getPrefetchExecutor()),
+                new ReferenceLoadScope(datastore, datastore.findSession(options)).wrap(mapper.getCodecRegistry().get(clazz)),
+                options.getDecodeExecutor(), options.isOrderedDecode()));
+        }
+        return new MorphiaCursor<>(PrefetchingCursor.wrap(prepareCursor(options, getCollection()), options.getPrefetch(),
+            options.getBatchSize(), options.getPrefetchExecutor()));
     }
 
     @Override
@@ -213,7 +339,7 @@ public class MorphiaQuery<T> implements Query<T> {
                                                  .include("_id");
 
         return new MorphiaKeyCursor<>(prepareCursor(includeId,
-            datastore.getDatabase().getCollection(getCollectionName())), datastore.getMapper(),
+            getCollection().withDocumentClass(Document.class)), datastore.getMapper(),
             clazz, getCollectionName());
     }
 
@@ -222,6 +348,11 @@ public class MorphiaQuery<T> implements Query<T> {
         return new Modify<>(datastore, mapper, getCollection(), this, getEntityClass(), first, updates);
     }
 
+    @Override
+    public PartitionedScan<T> partitionedScan(int partitions, FindOptions options) {
+        return new PartitionedScan<>(datastore, this, getCollection(), partitions, options);
+    }
+
     @Override
     public Query<T> search(String searchText) {
         return filter(text(searchText));
@@ -232,6 +363,11 @@ public class MorphiaQuery<T> implements Query<T> {
         return filter(text(searchText).language(language));
     }
 
+    @Override
+    public Tail<T> tail(Consumer<List<T>> consumer, TailOptions options) {
+        return new Tail<>(getCollection(), this, consumer, options).start();
+    }
+
     /**
      * Converts the query to a Document and updates for any discriminator values as my be necessary
      *
@@ -291,6 +427,10 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @SuppressWarnings("ConstantConditions")
     private <E> MongoCursor<E> prepareCursor(FindOptions findOptions, MongoCollection<E> collection) {
+        MorphiaMetrics metrics = mapper.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
+        QueryEvent event = new QueryEvent();
+        event.begin();
         final Document query = toDocument();
 
         if (LOG.isTraceEnabled()) {
@@ -310,22 +450,19 @@ public class MorphiaQuery<T> implements Query<T> {
                                    ? updated.find(clientSession, query)
                                    : updated.find(query);
 
-        Document oldProfile = null;
-        if (findOptions.isLogQuery()) {
-            oldProfile = datastore.getDatabase().runCommand(new Document("profile", 2).append("slowms", 0));
+        // lazy references decoded by this cursor are loaded together, in the query's session
+        ReferenceLoadScope scope = new ReferenceLoadScope(datastore, clientSession);
+        MongoCursor<E> cursor = datastore.profileLoggedQuery(findOptions, () -> scope.wrap(scope.run(() -> findOptions
+                                                                                                  .apply(iterable, mapper, clazz)
+                                                                                                  .iterator())));
+        if (metrics != null) {
+            metrics.query(getCollectionName(), System.nanoTime() - start);
         }
-        try {
-            return findOptions
-                       .apply(iterable, mapper, clazz)
-                       .iterator();
-        } finally {
-            if (findOptions.isLogQuery()) {
-                datastore.getDatabase().runCommand(new Document("profile", oldProfile.get("was"))
-                                                       .append("slowms", oldProfile.get("slowms"))
-                                                       .append("sampleRate", oldProfile.get("sampleRate")));
-            }
-
+        if (event.isEnabled()) {
+            event.target(getCollectionName(), clazz, query);
+            return new RecordingCursor<>(cursor, event);
         }
+        return cursor;
     }
 
     Document getQueryDocument() {
@@ -338,7 +475,11 @@ public class MorphiaQuery<T> implements Query<T> {
         });
 
         Document query = writer.getDocument();
-        mapper.updateQueryWithDiscriminators(mapper.getEntityModel(getEntityClass()), query);
+        EntityModel model = mapper.getEntityModel(getEntityClass());
+        mapper.updateQueryWithDiscriminators(model, query);
+        if (mapper.getOptions().isWarnOnMissingShardKey()) {
+            checkShardKey(model, query);
+        }
 
         return query;
     }
@@ -63,7 +63,7 @@ public class OperationTarget {
                                            .getField(mappedField.getName())
                               : null;
 
-        Codec cachedCodec = model != null && !(mappedValue instanceof LegacyQuery)
+        Codec cachedCodec = model != null && !(mappedValue instanceof LegacyQuery) && !(mappedValue instanceof Parameter)
                             ? model.getCachedCodec()
                             : null;
         if (cachedCodec instanceof PropertyHandler) {
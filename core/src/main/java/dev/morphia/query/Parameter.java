@@ -0,0 +1,44 @@
+package dev.morphia.query;
+
+import dev.morphia.sofia.Sofia;
+
+import java.util.Objects;
+
+/**
+ * A named placeholder for a value in a filter or update operator of an {@link UpdateTemplate}.  The value is supplied each time the
+ * template is executed.
+ *
+ * @morphia.experimental
+ * @see Query#prepareUpdate(dev.morphia.query.experimental.updates.UpdateOperator,
+ * dev.morphia.query.experimental.updates.UpdateOperator...)
+ * @since 2.1
+ */
+public final class Parameter {
+    private final String name;
+
+    private Parameter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates a named placeholder
+     *
+     * @param name the name of the parameter
+     * @return the placeholder
+     */
+    public static Parameter param(String name) {
+        return new Parameter(Objects.requireNonNull(name, Sofia.notNull("name")));
+    }
+
+    /**
+     * @return the name of the parameter
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return ":" + name;
+    }
+}
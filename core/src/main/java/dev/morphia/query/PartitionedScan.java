@@ -0,0 +1,180 @@
+package dev.morphia.query;
+
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import dev.morphia.Datastore;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Splits the results of a query in to disjoint ranges of {@code _id} values which can be scanned concurrently, each with its own
+ * server cursor.  The ranges are computed once, when the scan is created, using {@code $bucketAuto} over the {@code _id} values
+ * matching the query so each partition holds roughly the same number of documents.
+ * <p>
+ * Each partition is read in {@code _id} order via the {@code _id} index and remembers the last {@code _id} it has handed to a
+ * consumer.  Running a partition again after a failure resumes after that value rather than rescanning the partition, and running
+ * the scan again only runs the partitions which have not completed.
+ * <pre>
+ * PartitionedScan&lt;User&gt; scan = datastore.find(User.class)
+ *                                    .filter(eq("active", true))
+ *                                    .partitionedScan(8, new FindOptions().batchSize(500));
+ * scan.forEach(user -&gt; index(user), executor).join();
+ * </pre>
+ *
+ * @param <T> the type of the results
+ * @morphia.experimental
+ * @since 2.1
+ */
+public class PartitionedScan<T> {
+    private static final Document ID_INDEX = new Document("_id", 1);
+
+    private final Query<T> query;
+    private final Mapper mapper;
+    private final FindOptions options;
+    private final List<Partition> partitions = new ArrayList<>();
+
+    PartitionedScan(Datastore datastore, Query<T> query, MongoCollection<?> collection, int count, FindOptions options) {
+        if (count < 1) {
+            throw new IllegalArgumentException(Sofia.invalidPartitions(count));
+        }
+        this.query = query;
+        this.mapper = datastore.getMapper();
+        this.options = options;
+
+        List<Object> bounds = new ArrayList<>();
+        if (count > 1) {
+            List<Document> pipeline = asList(new Document("$match", query.toDocument()),
+                new Document("$bucketAuto", new Document("groupBy", "$_id").append("buckets", count)));
+            MongoCollection<Document> documents = collection.withDocumentClass(Document.class);
+            ClientSession session = datastore.findSession(options);
+            AggregateIterable<Document> buckets = session != null
+                                                  ? documents.aggregate(session, pipeline)
+                                                  : documents.aggregate(pipeline);
+            for (Document bucket : buckets.allowDiskUse(true)) {
+                bounds.add(((Document) bucket.get("_id")).get("min"));
+            }
+        }
+
+        for (int i = 0; i < Math.max(bounds.size(), 1); i++) {
+            partitions.add(new Partition(i == 0 ? null : bounds.get(i), i + 1 < bounds.size() ? bounds.get(i + 1) : null));
+        }
+    }
+
+    /**
+     * Runs every partition which has not yet completed concurrently.  If any partition fails the returned future completes
+     * exceptionally once the others have finished.  The scan can then be run again to resume the unfinished partitions.
+     *
+     * @param action   the action to apply to each result.  This will be called concurrently from the executor's threads.
+     * @param executor the executor to run the partitions on
+     * @return a future which completes when every partition has completed
+     */
+    public CompletableFuture<Void> forEach(Consumer<? super T> action, Executor executor) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Partition partition : partitions) {
+            if (!partition.isComplete()) {
+                futures.add(CompletableFuture.runAsync(() -> partition.forEach(action), executor));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * @return the partitions of this scan in {@code _id} order
+     */
+    public List<Partition> getPartitions() {
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * @return true if every partition has completed
+     */
+    public boolean isComplete() {
+        return partitions.stream().allMatch(Partition::isComplete);
+    }
+
+    /**
+     * A range of {@code _id} values.  A partition should only be run by one thread at a time.
+     */
+    public class Partition {
+        private final Object lowerBound;
+        private final Object upperBound;
+        private volatile Object lastSeenId;
+        private volatile boolean complete;
+
+        private Partition(Object lowerBound, Object upperBound) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+        }
+
+        /**
+         * Reads the remainder of this partition.  If the action fails, running this partition again resumes with the failed result.
+         *
+         * @param action the action to apply to each result
+         */
+        public void forEach(Consumer<? super T> action) {
+            Object resumeAfter = lastSeenId;
+            FindOptions partitionOptions = options.copy()
+                                                  .hint(ID_INDEX)
+                                                  .sort(ID_INDEX);
+            Object start = resumeAfter != null ? resumeAfter : lowerBound;
+            if (start != null) {
+                partitionOptions.min(new Document("_id", start));
+            }
+            if (upperBound != null) {
+                partitionOptions.max(new Document("_id", upperBound));
+            }
+            try (MorphiaCursor<T> cursor = query.iterator(partitionOptions)) {
+                while (cursor.hasNext()) {
+                    T entity = cursor.next();
+                    Object id = mapper.getId(entity);
+                    if (resumeAfter != null && resumeAfter.equals(id)) {
+                        continue;
+                    }
+                    action.accept(entity);
+                    lastSeenId = id;
+                }
+            }
+            complete = true;
+        }
+
+        /**
+         * @return the last {@code _id} handed to a consumer or null if none has been
+         */
+        public Object getLastSeenId() {
+            return lastSeenId;
+        }
+
+        /**
+         * @return the inclusive lower bound of this partition or null if it is the first partition
+         */
+        public Object getLowerBound() {
+            return lowerBound;
+        }
+
+        /**
+         * @return the exclusive upper bound of this partition or null if it is the last partition
+         */
+        public Object getUpperBound() {
+            return upperBound;
+        }
+
+        /**
+         * @return true if this partition has been read to the end
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+    }
+}
@@ -5,12 +5,18 @@ import com.mongodb.client.result.DeleteResult;
 import dev.morphia.DeleteOptions;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.CursorSpliterator;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
 import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static dev.morphia.query.MorphiaQuery.legacyOperation;
 
@@ -95,6 +101,36 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
      */
     Query<T> disableValidation();
 
+    /**
+     * Finds the distinct values of a field across the documents matching this query.  The field name is mapped and validated as
+     * in a filter.  Values are decoded with the field's codec when the field is of the requested type.  Otherwise they are decoded
+     * with the codec registered for the type which is the case for the elements of a list field.
+     *
+     * @param field the field
+     * @param type  the type of the values
+     * @param <V>   the type of the values
+     * @return the distinct values
+     * @mongodb.driver.manual reference/command/distinct/ Distinct
+     * @since 2.1
+     */
+    default <V> List<V> distinct(String field, Class<V> type) {
+        return distinct(field, type, new FindOptions());
+    }
+
+    /**
+     * Finds the distinct values of a field across the documents matching this query.  Only the session, collation, and max time
+     * of the options are used.
+     *
+     * @param field   the field
+     * @param type    the type of the values
+     * @param options the options to apply
+     * @param <V>     the type of the values
+     * @return the distinct values
+     * @see #distinct(String, Class)
+     * @since 2.1
+     */
+    <V> List<V> distinct(String field, Class<V> type, FindOptions options);
+
     /**
      * Turns on validation (for all calls made after); by default validation is on
      *
@@ -113,6 +149,25 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
         return legacyOperation();
     }
 
+    /**
+     * Checks whether any document matches this query.  Only the {@code _id} of the first match is fetched.
+     *
+     * @return true if a document matches
+     * @since 2.1
+     */
+    default boolean exists() {
+        return exists(new FindOptions());
+    }
+
+    /**
+     * Checks whether any document matches this query.  Only the {@code _id} of the first match is fetched.
+     *
+     * @param options the options to apply to the find operation
+     * @return true if a document matches
+     * @since 2.1
+     */
+    boolean exists(FindOptions options);
+
     /**
      * Execute the query and get the results.
      * <p>
@@ -150,6 +205,34 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
      */
     Map<String, Object> explain(FindOptions options);
 
+    /**
+     * Writes the results of this query to a stream without decoding them in to entities
+     *
+     * @param out    the stream to write to
+     * @param format the format to write
+     * @return the number of documents written
+     * @see #exportTo(OutputStream, ExportFormat, FindOptions)
+     * @morphia.experimental
+     * @since 2.1
+     */
+    default long exportTo(OutputStream out, ExportFormat format) {
+        return exportTo(out, format, new FindOptions());
+    }
+
+    /**
+     * Writes the results of this query to a stream without decoding them in to entities.  The query's filters, discriminators, and
+     * any projection are applied as they would be when fetching entities but the matching documents are read as raw BSON and copied
+     * to the stream one at a time so memory use does not grow with the number of results.  The stream is flushed but not closed.
+     *
+     * @param out     the stream to write to
+     * @param format  the format to write
+     * @param options the options to apply to the find operation
+     * @return the number of documents written
+     * @morphia.experimental
+     * @since 2.1
+     */
+    long exportTo(OutputStream out, ExportFormat format, FindOptions options);
+
     /**
      * Fluent query interface: {@code createQuery(Ent.class).field("count").greaterThan(7)...}
      *
@@ -317,6 +400,33 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
         return legacyOperation();
     }
 
+    /**
+     * Splits the results of this query in to disjoint ranges of {@code _id} values which can be scanned concurrently and resumed
+     * individually.  The options are applied to each partition's query except for the sort and index hint which are replaced so
+     * that each partition is read in {@code _id} order.
+     *
+     * @param partitions the number of partitions to create
+     * @param options    the options to apply to the find operation of each partition
+     * @return the scan
+     * @morphia.experimental
+     * @since 2.1
+     */
+    PartitionedScan<T> partitionedScan(int partitions, FindOptions options);
+
+    /**
+     * Prepares an update based on this query for repeated execution.  The filters and update operators may use
+     * {@link Parameter#param(String) named parameters} in place of values which are then supplied on each execution.
+     *
+     * @param first   the first and required update operator
+     * @param updates lists the set of updates to apply
+     * @return the prepared update
+     * @morphia.experimental
+     * @since 2.1
+     */
+    default UpdateTemplate<T> prepareUpdate(UpdateOperator first, UpdateOperator... updates) {
+        return new UpdateTemplate<>(update(first, updates));
+    }
+
     /**
      * This is only intended for migration of legacy uses of UpdateOperations
      *
@@ -365,6 +475,48 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
     @Deprecated(since = "2.0", forRemoval = true)
     Query<T> search(String text, String language);
 
+    /**
+     * Execute the query and get the results as a stream.  The stream must be closed, e.g. by a try-with-resources block, if it is
+     * not consumed entirely to release the underlying cursor.
+     *
+     * @return the stream of results
+     * @see #stream(FindOptions)
+     * @since 2.1
+     */
+    default Stream<T> stream() {
+        return stream(new FindOptions());
+    }
+
+    /**
+     * Execute the query and get the results as a stream.  The results are read lazily so only a bounded number of them are held in
+     * memory at a time.  A {@link Stream#parallel() parallel} stream hands whole batches of results, as sized by
+     * {@link FindOptions#batchSize(int)}, to its worker threads.  The stream must be closed, e.g. by a try-with-resources block, if
+     * it is not consumed entirely to release the underlying cursor.
+     *
+     * @param options the options to apply to the find operation
+     * @return the stream of results
+     * @since 2.1
+     */
+    default Stream<T> stream(FindOptions options) {
+        MorphiaCursor<T> cursor = iterator(options);
+        return StreamSupport.stream(new CursorSpliterator<>(cursor, options.getBatchSize()), false)
+                            .onClose(cursor::close);
+    }
+
+    /**
+     * Tails the capped collection of this query, passing the matching entities to the consumer in batches as they are inserted.
+     * The tail runs on the executor of the options and resumes after the last entity seen whenever its cursor dies.  Sorts, limits,
+     * and projections do not apply to tails.
+     *
+     * @param consumer the consumer of the entities
+     * @param options  the options to apply
+     * @return the running tail
+     * @morphia.experimental
+     * @see Tail
+     * @since 2.1
+     */
+    Tail<T> tail(Consumer<List<T>> consumer, TailOptions options);
+
     /**
      * @return the document form of this query
      * @morphia.internal
@@ -0,0 +1,157 @@
+package dev.morphia.query;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures the queries run with {@link FindOptions#logQuery()} as they are sent to the server.  This listener must be added to the
+ * settings used to create the {@code MongoClient} and registered with the datastore:
+ * <pre>
+ * QueryLogger logger = new QueryLogger();
+ * MongoClient client = MongoClients.create(MongoClientSettings.builder()
+ *                                                            .addCommandListener(logger)
+ *                                                            .build());
+ * Datastore datastore = Morphia.createDatastore(client, "db");
+ * datastore.getMapper().setQueryLogger(logger);
+ * </pre>
+ * Datastores created via {@link dev.morphia.Morphia#createDatastore(String, dev.morphia.mapping.MapperOptions)} have one registered
+ * already.  Only the most recent queries are retained.
+ * <p>
+ * Without a registered logger, logged queries fall back to enabling the database profiler around each logged query and reading
+ * the filter back from {@code system.profile}.  This costs two extra commands per logged query and changes the profiling level
+ * seen by every client of the database while the query runs.
+ *
+ * @morphia.experimental
+ * @since 2.1
+ */
+public class QueryLogger implements CommandListener {
+    private static final int DEFAULT_CAPACITY = 1000;
+    private static final String PREFIX = Sofia.loggedQuery("");
+
+    private final Map<Integer, LoggedQuery> pending = new ConcurrentHashMap<>();
+    private final Map<String, LoggedQuery> completed;
+
+    /**
+     * Creates a logger retaining the 1000 most recent queries
+     */
+    public QueryLogger() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a logger
+     *
+     * @param capacity the number of queries to retain
+     */
+    public QueryLogger(int capacity) {
+        completed = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LoggedQuery> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (event.getCommandName().equals("find")) {
+            BsonValue comment = event.getCommand().get("comment");
+            if (comment != null && comment.isString() && comment.asString().getValue().startsWith(PREFIX)) {
+                BsonDocument command = event.getCommand();
+                pending.put(event.getRequestId(), new LoggedQuery(comment.asString().getValue(),
+                    copy(command, "filter"), copy(command, "sort"), copy(command, "projection")));
+            }
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        LoggedQuery query = pending.remove(event.getRequestId());
+        if (query != null) {
+            query.duration = event.getElapsedTime(TimeUnit.NANOSECONDS);
+            completed.put(query.comment, query);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        pending.remove(event.getRequestId());
+    }
+
+    /**
+     * Finds the query run with the given options
+     *
+     * @param options the options used when running the query
+     * @return the logged query or null if no query has been logged for these options
+     */
+    public LoggedQuery getLoggedQuery(FindOptions options) {
+        return options.isLogQuery() ? completed.get(Sofia.loggedQuery(options.getQueryLogId())) : null;
+    }
+
+    private static BsonDocument copy(BsonDocument command, String key) {
+        // the command is only valid for the duration of the event
+        BsonValue value = command.get(key);
+        return value != null && value.isDocument() ? value.asDocument().clone() : null;
+    }
+
+    /**
+     * The query as sent to the server
+     *
+     * @morphia.experimental
+     * @since 2.1
+     */
+    public static final class LoggedQuery {
+        private final String comment;
+        private final BsonDocument filter;
+        private final BsonDocument sort;
+        private final BsonDocument projection;
+        private volatile long duration;
+
+        private LoggedQuery(String comment, BsonDocument filter, BsonDocument sort, BsonDocument projection) {
+            this.comment = comment;
+            this.filter = filter;
+            this.sort = sort;
+            this.projection = projection;
+        }
+
+        /**
+         * @param unit the unit to report in
+         * @return the time taken to run the query and return the first batch as measured by the driver
+         */
+        public long getDuration(TimeUnit unit) {
+            return unit.convert(duration, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @return the filter sent or null if there was none
+         */
+        public BsonDocument getFilter() {
+            return filter;
+        }
+
+        /**
+         * @return the projection sent or null if there was none
+         */
+        public BsonDocument getProjection() {
+            return projection;
+        }
+
+        /**
+         * @return the sort sent or null if there was none
+         */
+        public BsonDocument getSort() {
+            return sort;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package dev.morphia.query;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.jfr.QueryEvent;
+
+/**
+ * Counts the documents returned by a cursor and commits the query's event once the cursor is exhausted or closed.
+ *
+ * @param <T> the type of the results
+ */
+class RecordingCursor<T> implements MongoCursor<T> {
+    private final MongoCursor<T> wrapped;
+    private final QueryEvent event;
+    private boolean committed;
+
+    RecordingCursor(MongoCursor<T> wrapped, QueryEvent event) {
+        this.wrapped = wrapped;
+        this.event = event;
+    }
+
+    @Override
+    public void close() {
+        try {
+            wrapped.close();
+        } finally {
+            commit();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        boolean hasNext = wrapped.hasNext();
+        if (!hasNext) {
+            commit();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        T next = wrapped.next();
+        event.returned();
+        return next;
+    }
+
+    @Override
+    public T tryNext() {
+        T next = wrapped.tryNext();
+        if (next != null) {
+            event.returned();
+        }
+        return next;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Override
+    public void remove() {
+        wrapped.remove();
+    }
+
+    private void commit() {
+        if (!committed) {
+            committed = true;
+            event.commit();
+        }
+    }
+}
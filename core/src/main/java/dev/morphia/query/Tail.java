@@ -0,0 +1,181 @@
+package dev.morphia.query;
+
+import com.mongodb.CursorType;
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A running tail of a capped collection.  Entities are read with a {@link CursorType#TailableAwait} cursor and handed to the
+ * consumer in batches on the executor given in the {@link TailOptions}.  When the cursor dies or fails it is reopened after a short
+ * delay, resuming after the {@code _id} of the last entity passed to the consumer.  This relies on ids increasing in insertion
+ * order as {@link org.bson.types.ObjectId}s generated by a single process do.
+ * <p>
+ * The tail runs until it is closed or the consumer throws an exception.
+ * <pre>
+ * Tail&lt;Message&gt; tail = datastore.find(Message.class)
+ *                               .filter(eq("queue", "orders"))
+ *                               .tail(messages -&gt; messages.forEach(this::process), new TailOptions().executor(executor));
+ * ...
+ * tail.close();
+ * </pre>
+ *
+ * @param <T> the entity type
+ * @morphia.experimental
+ * @see Query#tail(Consumer, TailOptions)
+ * @since 2.1
+ */
+public class Tail<T> implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(Tail.class);
+    private final MongoCollection<RawBsonDocument> collection;
+    private final Document filter;
+    private final Decoder<T> decoder;
+    private final Consumer<List<T>> consumer;
+    private final TailOptions options;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile boolean closed;
+    private BsonValue lastId;
+
+    Tail(MongoCollection<T> collection, Query<T> query, Consumer<List<T>> consumer, TailOptions options) {
+        this.collection = collection.withDocumentClass(RawBsonDocument.class);
+        this.filter = query.toDocument();
+        this.decoder = collection.getCodecRegistry().get(query.getEntityClass());
+        this.consumer = consumer;
+        this.options = options;
+        Objects.requireNonNull(options.getExecutor(), Sofia.notNull("executor"));
+    }
+
+    /**
+     * Stops the tail.  The tail notices within the max await time of its options and then completes {@link #getCompletion()}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return a future completed once the tail has stopped, exceptionally if the consumer threw an exception
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * @return true if the tail has been closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    Tail<T> start() {
+        options.getExecutor().execute(this::run);
+        return this;
+    }
+
+    private boolean isRunning() {
+        return !closed && !Thread.currentThread().isInterrupted();
+    }
+
+    private MongoCursor<RawBsonDocument> open() {
+        Document query = lastId == null
+                         ? filter
+                         : new Document("$and", List.of(filter, new Document("_id", new Document("$gt", lastId))));
+        return collection.find(query)
+                         .cursorType(CursorType.TailableAwait)
+                         .maxAwaitTime(options.getMaxAwaitTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS)
+                         .batchSize(options.getBatchSize())
+                         .iterator();
+    }
+
+    private synchronized void pause() throws InterruptedException {
+        long delay = options.getRetryDelay(TimeUnit.MILLISECONDS);
+        if (delay > 0 && !closed) {
+            wait(delay);
+        }
+    }
+
+    /**
+     * Reads from the cursor until it dies, handing over a batch whenever it is full or the server has nothing more to send
+     */
+    private void read(MongoCursor<RawBsonDocument> cursor) {
+        List<T> batch = new ArrayList<>();
+        BsonValue batchId = null;
+        while (isRunning()) {
+            RawBsonDocument document = cursor.tryNext();
+            if (document != null) {
+                batch.add(document.decode(decoder));
+                batchId = document.get("_id");
+            }
+            if (!batch.isEmpty() && (document == null || batch.size() >= options.getBatchSize())) {
+                try {
+                    consumer.accept(batch);
+                } catch (RuntimeException e) {
+                    // kept apart from the driver errors that reopen the cursor so the batch is not handed over again
+                    throw new ConsumerException(e);
+                }
+                lastId = batchId;
+                batch = new ArrayList<>();
+            }
+            if (document == null && cursor.getServerCursor() == null) {
+                return;
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            while (isRunning()) {
+                try (MongoCursor<RawBsonDocument> cursor = open()) {
+                    read(cursor);
+                } catch (MongoInterruptedException e) {
+                    break;
+                } catch (MongoException e) {
+                    if (!isRunning()) {
+                        break;
+                    }
+                    LOG.warn(Sofia.tailResuming(collection.getNamespace().getCollectionName(), e.getMessage()), e);
+                }
+                pause();
+            }
+            closed = true;
+            completion.complete(null);
+        } catch (InterruptedException e) {
+            closed = true;
+            Thread.currentThread().interrupt();
+            completion.complete(null);
+        } catch (ConsumerException e) {
+            closed = true;
+            completion.completeExceptionally(e.getCause());
+        } catch (RuntimeException | Error e) {
+            closed = true;
+            completion.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Carries an exception thrown by the consumer past the handling of driver errors
+     */
+    private static final class ConsumerException extends RuntimeException {
+        private ConsumerException(RuntimeException cause) {
+            super(cause);
+        }
+    }
+}
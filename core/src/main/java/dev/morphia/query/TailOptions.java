@@ -0,0 +1,107 @@
+package dev.morphia.query;
+
+import com.mongodb.assertions.Assertions;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Options for tailing a capped collection.  The setter methods return {@code this} so that a chaining style can be used.
+ *
+ * @morphia.experimental
+ * @see Query#tail(java.util.function.Consumer, TailOptions)
+ * @since 2.1
+ */
+public final class TailOptions {
+    private int batchSize = 100;
+    private long maxAwaitTimeMS = 500;
+    private long retryDelayMS = 250;
+    private Executor executor;
+
+    /**
+     * Sets the maximum number of entities passed to the consumer at once.  This is also the batch size of the cursor.  The default
+     * is 100.
+     *
+     * @param batchSize the batch size
+     * @return this
+     */
+    public TailOptions batchSize(int batchSize) {
+        Assertions.isTrueArgument("batchSize > 0", batchSize > 0);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the executor to tail on.  The tail occupies one of the executor's threads until it is closed.  This is required.
+     *
+     * @param executor the executor
+     * @return this
+     */
+    public TailOptions executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of entities passed to the consumer at once
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the executor to tail on
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param timeUnit the time unit to apply
+     * @return the time the server waits for new documents before answering an empty batch
+     */
+    public long getMaxAwaitTime(TimeUnit timeUnit) {
+        Assertions.notNull("timeUnit", timeUnit);
+        return timeUnit.convert(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param timeUnit the time unit to apply
+     * @return the time waited before reopening a cursor which has died
+     */
+    public long getRetryDelay(TimeUnit timeUnit) {
+        Assertions.notNull("timeUnit", timeUnit);
+        return timeUnit.convert(retryDelayMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets the time the server waits for new documents before answering an empty batch.  Entities already read are passed to the
+     * consumer once the server has nothing more to send so this also bounds how long a partial batch waits.  It also bounds how long
+     * closing a tail takes to be noticed.  The default is 500ms.
+     *
+     * @param maxAwaitTime the max await time
+     * @param timeUnit     the unit
+     * @return this
+     */
+    public TailOptions maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit) {
+        Assertions.notNull("timeUnit", timeUnit);
+        Assertions.isTrueArgument("maxAwaitTime > = 0", maxAwaitTime >= 0L);
+        this.maxAwaitTimeMS = TimeUnit.MILLISECONDS.convert(maxAwaitTime, timeUnit);
+        return this;
+    }
+
+    /**
+     * Sets the time waited before reopening a cursor which has died or failed.  A tailable cursor dies straight away on an empty
+     * collection and when the last document it returned has been removed from the capped collection.  The default is 250ms.
+     *
+     * @param retryDelay the delay
+     * @param timeUnit   the unit
+     * @return this
+     */
+    public TailOptions retryDelay(long retryDelay, TimeUnit timeUnit) {
+        Assertions.notNull("timeUnit", timeUnit);
+        Assertions.isTrueArgument("retryDelay > = 0", retryDelay >= 0L);
+        this.retryDelayMS = TimeUnit.MILLISECONDS.convert(retryDelay, timeUnit);
+        return this;
+    }
+}
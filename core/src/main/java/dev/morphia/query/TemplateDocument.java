@@ -0,0 +1,224 @@
+package dev.morphia.query;
+
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.ParameterCodec;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Holds an encoded document containing parameter markers.  Only the documents and arrays leading to a parameter are copied when
+ * values are bound and everything else is shared with the template.
+ * <p>
+ * The field each parameter is compared with or assigned to is resolved once, when the template is compiled, from the keys leading
+ * to its marker.  Values bound to a field are encoded the way a query or update would encode them: through the field's property
+ * handler, such as for references, or with the field's codec.  Values the field's codec can not encode, and values bound to
+ * parameters without a mapped field, are encoded with the codec registered for their type.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+class TemplateDocument {
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+    private final Mapper mapper;
+    private final EntityModel model;
+    private final CodecRegistry registry;
+    private final BsonDocument template;
+    private final Node root;
+    private final Set<String> parameters = new LinkedHashSet<>();
+
+    TemplateDocument(Mapper mapper, EntityModel model, Document document) {
+        this.mapper = mapper;
+        this.model = model;
+        registry = mapper.getCodecRegistry();
+        template = document.toBsonDocument(BsonDocument.class, registry);
+        root = compile(template, null);
+    }
+
+    /**
+     * Binds the values in to a copy of this template.  The values are expected to have been checked against the parameters.
+     *
+     * @param values the parameter values
+     * @return the bound document
+     */
+    BsonDocument bind(Map<String, ?> values) {
+        return root != null ? (BsonDocument) root.bind(values) : template;
+    }
+
+    Set<String> getParameters() {
+        return Collections.unmodifiableSet(parameters);
+    }
+
+    @Override
+    public String toString() {
+        return template.toJson();
+    }
+
+    /**
+     * Compiles a value of the template.  The path is built from the field names leading to the value, skipping operators and array
+     * positions, so that it names the field a parameter found there applies to.
+     */
+    private Node compile(BsonValue value, String path) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            BsonValue marker = document.get(ParameterCodec.MARKER);
+            if (marker != null && marker.isString() && document.size() == 1) {
+                String name = marker.asString().getValue();
+                parameters.add(name);
+                return new ParameterNode(name, path != null ? findField(path) : null);
+            }
+            List<String> names = new ArrayList<>();
+            List<BsonValue> values = new ArrayList<>();
+            List<Node> nodes = new ArrayList<>();
+            boolean parameterized = false;
+            for (Entry<String, BsonValue> entry : document.entrySet()) {
+                String key = entry.getKey();
+                Node node = compile(entry.getValue(), key.startsWith("$") ? path : path != null ? path + "." + key : key);
+                parameterized |= node != null;
+                names.add(key);
+                values.add(entry.getValue());
+                nodes.add(node);
+            }
+            return parameterized ? new DocumentNode(names, values, nodes) : null;
+        } else if (value.isArray()) {
+            List<BsonValue> values = value.asArray().getValues();
+            List<Node> nodes = new ArrayList<>();
+            boolean parameterized = false;
+            for (BsonValue element : values) {
+                Node node = compile(element, path);
+                parameterized |= node != null;
+                nodes.add(node);
+            }
+            return parameterized ? new ArrayNode(values, nodes) : null;
+        }
+        return null;
+    }
+
+    private FieldModel findField(String path) {
+        FieldModel field = new PathTarget(mapper, model, path, false).getTarget();
+        if (field != null && field.getCachedCodec() == null) {
+            // the field codecs are cached when the codec of the declaring type is created
+            registry.get(field.getEntityModel().getType());
+        }
+        return field;
+    }
+
+    private interface Node {
+        BsonValue bind(Map<String, ?> values);
+    }
+
+    private static final class ArrayNode implements Node {
+        private final List<BsonValue> values;
+        private final List<Node> nodes;
+
+        private ArrayNode(List<BsonValue> values, List<Node> nodes) {
+            this.values = values;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public BsonValue bind(Map<String, ?> bound) {
+            BsonArray array = new BsonArray(new ArrayList<>(values.size()));
+            for (int i = 0; i < values.size(); i++) {
+                Node node = nodes.get(i);
+                array.add(node != null ? node.bind(bound) : values.get(i));
+            }
+            return array;
+        }
+    }
+
+    private static final class DocumentNode implements Node {
+        private final List<String> names;
+        private final List<BsonValue> values;
+        private final List<Node> nodes;
+
+        private DocumentNode(List<String> names, List<BsonValue> values, List<Node> nodes) {
+            this.names = names;
+            this.values = values;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public BsonValue bind(Map<String, ?> bound) {
+            BsonDocument document = new BsonDocument();
+            for (int i = 0; i < names.size(); i++) {
+                Node node = nodes.get(i);
+                document.put(names.get(i), node != null ? node.bind(bound) : values.get(i));
+            }
+            return document;
+        }
+    }
+
+    private final class ParameterNode implements Node {
+        private final String name;
+        private final PropertyHandler handler;
+        private final Codec<?> codec;
+        private volatile CachedCodec cached;
+
+        private ParameterNode(String name, FieldModel field) {
+            this.name = name;
+            Codec<?> fieldCodec = field != null ? field.getCachedCodec() : null;
+            handler = fieldCodec instanceof PropertyHandler ? (PropertyHandler) fieldCodec : null;
+            codec = handler == null ? fieldCodec : null;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public BsonValue bind(Map<String, ?> bound) {
+            Object value = bound.get(name);
+            if (value != null && handler != null) {
+                value = handler.encode(value);
+            }
+            if (value == null) {
+                return BsonNull.VALUE;
+            }
+            Codec<?> valueCodec;
+            if (codec != null && codec.getEncoderClass().isInstance(value)) {
+                valueCodec = codec;
+            } else {
+                CachedCodec cachedCodec = cached;
+                if (cachedCodec == null || cachedCodec.type != value.getClass()) {
+                    cachedCodec = new CachedCodec(value.getClass(), registry.get(value.getClass()));
+                    cached = cachedCodec;
+                }
+                valueCodec = cachedCodec.codec;
+            }
+            BsonDocument holder = new BsonDocument();
+            BsonDocumentWriter writer = new BsonDocumentWriter(holder);
+            writer.writeStartDocument();
+            writer.writeName("value");
+            ENCODER_CONTEXT.encodeWithChildContext((Codec) valueCodec, writer, value);
+            writer.writeEndDocument();
+            return holder.get("value");
+        }
+    }
+
+    private static final class CachedCodec {
+        private final Class<?> type;
+        private final Codec<?> codec;
+
+        private CachedCodec(Class<?> type, Codec<?> codec) {
+            this.type = type;
+            this.codec = codec;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.mongodb.client.result.UpdateResult;
 import dev.morphia.Datastore;
 import dev.morphia.UpdateOptions;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.metrics.MorphiaMetrics.WriteOperation;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import org.bson.Document;
 
@@ -45,15 +47,23 @@ public class Update<T> extends UpdateBase<T> {
         Document updateOperations = toDocument();
         final Document queryObject = getQuery().toDocument();
 
+        MorphiaMetrics metrics = getMapper().getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
         ClientSession session = getDatastore().findSession(options);
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
+        UpdateResult result;
         if (options.isMulti()) {
-            return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
-                                   : mongoCollection.updateMany(session, queryObject, updateOperations, options);
+            result = session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
+                                     : mongoCollection.updateMany(session, queryObject, updateOperations, options);
 
         } else {
-            return session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
-                                   : mongoCollection.updateOne(session, queryObject, updateOperations, options);
+            result = session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
+                                     : mongoCollection.updateOne(session, queryObject, updateOperations, options);
         }
+        if (metrics != null) {
+            metrics.write(mongoCollection.getNamespace().getCollectionName(), WriteOperation.UPDATE,
+                result.wasAcknowledged() ? result.getModifiedCount() : 0, System.nanoTime() - start);
+        }
+        return result;
     }
 }
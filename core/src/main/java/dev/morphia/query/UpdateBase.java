@@ -93,6 +93,10 @@ public abstract class UpdateBase<T> {
         return datastore;
     }
 
+    protected Mapper getMapper() {
+        return mapper;
+    }
+
     protected Query<T> getQuery() {
         return query;
     }
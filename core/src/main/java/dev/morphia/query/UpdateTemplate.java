@@ -0,0 +1,211 @@
+package dev.morphia.query;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import dev.morphia.Datastore;
+import dev.morphia.ModifyOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.metrics.MorphiaMetrics.WriteOperation;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A prepared update.  The filter and update operators are mapped and encoded once, when the template is prepared, with any
+ * {@link Parameter parameters} left as placeholders.  Each execution binds its values directly in to copies of the encoded documents.
+ * Bound values are encoded as the field they apply to encodes them, so reference fields and fields with their own codecs are
+ * encoded the same way as in a query or update.
+ * <pre>
+ * UpdateTemplate&lt;Order&gt; transition = datastore.find(Order.class)
+ *                                            .filter(eq("_id", param("id")), eq("status", param("from")))
+ *                                            .prepareUpdate(set("status", param("to")));
+ * transition.update(Map.of("id", id, "from", NEW, "to", SHIPPED));
+ * </pre>
+ * A template is immutable and can be executed concurrently.
+ *
+ * @param <T> the entity type
+ * @morphia.experimental
+ * @since 2.1
+ */
+public class UpdateTemplate<T> {
+    private final Datastore datastore;
+    private final Mapper mapper;
+    private final MongoCollection<T> collection;
+    private final TemplateDocument filter;
+    private final TemplateDocument update;
+    private final Set<String> parameters = new LinkedHashSet<>();
+
+    UpdateTemplate(UpdateBase<T> base) {
+        this.datastore = base.getDatastore();
+        this.mapper = base.getMapper();
+        this.collection = base.getCollection();
+        EntityModel model = mapper.getEntityModel(base.getQuery().getEntityClass());
+        this.filter = new TemplateDocument(mapper, model, base.getQuery().toDocument());
+        this.update = new TemplateDocument(mapper, model, base.toDocument());
+        parameters.addAll(filter.getParameters());
+        parameters.addAll(update.getParameters());
+    }
+
+    /**
+     * Binds the values in to the filter of this template
+     *
+     * @param values the parameter values
+     * @return the bound filter
+     */
+    public BsonDocument bindFilter(Map<String, ?> values) {
+        check(values);
+        return filter.bind(values);
+    }
+
+    /**
+     * Binds the values in to the update of this template
+     *
+     * @param values the parameter values
+     * @return the bound update
+     */
+    public BsonDocument bindUpdate(Map<String, ?> values) {
+        check(values);
+        return update.bind(values);
+    }
+
+    /**
+     * @return the collection this template updates
+     * @morphia.internal
+     */
+    public MongoCollection<T> getCollection() {
+        return collection;
+    }
+
+    /**
+     * @return the names of the parameters of this template
+     */
+    public Set<String> getParameters() {
+        return Collections.unmodifiableSet(parameters);
+    }
+
+    /**
+     * Performs a find and modify with the bound values
+     *
+     * @param values the parameter values
+     * @return the operation result
+     * @see Modify#execute()
+     */
+    public T modify(Map<String, ?> values) {
+        return modify(values, new ModifyOptions());
+    }
+
+    /**
+     * Performs a find and modify with the bound values
+     *
+     * @param values  the parameter values
+     * @param options the options to apply
+     * @return the operation result
+     * @see Modify#execute(ModifyOptions)
+     */
+    public T modify(Map<String, ?> values, ModifyOptions options) {
+        check(values);
+        MorphiaMetrics metrics = mapper.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
+        ClientSession session = datastore.findSession(options);
+        MongoCollection<T> mongoCollection = options.prepare(collection);
+        BsonDocument boundFilter = filter.bind(values);
+        BsonDocument boundUpdate = update.bind(values);
+
+        T result = session == null
+                   ? mongoCollection.findOneAndUpdate(boundFilter, boundUpdate, options)
+                   : mongoCollection.findOneAndUpdate(session, boundFilter, boundUpdate, options);
+        if (metrics != null) {
+            metrics.write(collection.getNamespace().getCollectionName(), WriteOperation.UPDATE, result != null ? 1 : 0,
+                System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a write model with the bound values for use in a bulk write.  The model updates every matching document if the
+     * options are {@link UpdateOptions#multi(boolean) multi} and the first otherwise.
+     *
+     * @param values  the parameter values
+     * @param options the options to apply
+     * @return the write model
+     */
+    public WriteModel<T> toWriteModel(Map<String, ?> values, UpdateOptions options) {
+        check(values);
+        return options.isMulti()
+               ? new UpdateManyModel<>(filter.bind(values), update.bind(values), options)
+               : new UpdateOneModel<>(filter.bind(values), update.bind(values), options);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("UpdateTemplate{filter=%s, update=%s}", filter, update);
+    }
+
+    /**
+     * Performs an update with the bound values
+     *
+     * @param values the parameter values
+     * @return the results
+     * @see Update#execute()
+     */
+    public UpdateResult update(Map<String, ?> values) {
+        return update(values, new UpdateOptions());
+    }
+
+    /**
+     * Performs an update with the bound values
+     *
+     * @param values  the parameter values
+     * @param options the options to apply
+     * @return the results
+     * @see Update#execute(UpdateOptions)
+     */
+    public UpdateResult update(Map<String, ?> values, UpdateOptions options) {
+        check(values);
+        MorphiaMetrics metrics = mapper.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
+        ClientSession session = datastore.findSession(options);
+        MongoCollection<T> mongoCollection = options.prepare(collection);
+        BsonDocument boundFilter = filter.bind(values);
+        BsonDocument boundUpdate = update.bind(values);
+        UpdateResult result;
+        if (options.isMulti()) {
+            result = session == null ? mongoCollection.updateMany(boundFilter, boundUpdate, options)
+                                     : mongoCollection.updateMany(session, boundFilter, boundUpdate, options);
+        } else {
+            result = session == null ? mongoCollection.updateOne(boundFilter, boundUpdate, options)
+                                     : mongoCollection.updateOne(session, boundFilter, boundUpdate, options);
+        }
+        if (metrics != null) {
+            metrics.write(mongoCollection.getNamespace().getCollectionName(), WriteOperation.UPDATE,
+                result.wasAcknowledged() ? result.getModifiedCount() : 0, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    private void check(Map<String, ?> values) {
+        for (String name : parameters) {
+            if (!values.containsKey(name)) {
+                throw new UpdateException(Sofia.missingTemplateParameter(name));
+            }
+        }
+        if (values.size() != parameters.size()) {
+            for (String name : values.keySet()) {
+                if (!parameters.contains(name)) {
+                    throw new UpdateException(Sofia.unknownTemplateParameter(name, parameters));
+                }
+            }
+        }
+    }
+}
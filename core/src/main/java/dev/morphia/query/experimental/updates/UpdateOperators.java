@@ -1,5 +1,6 @@
 package dev.morphia.query.experimental.updates;
 
+import dev.morphia.query.Parameter;
 import dev.morphia.query.Query;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.sofia.Sofia;
@@ -124,6 +125,21 @@ public final class UpdateOperators {
         return new UpdateOperator("$inc", field, value);
     }
 
+    /**
+     * Increments the value of the field by the value bound to a template parameter.
+     *
+     * @param field the field to increment
+     * @param value the parameter holding the number to increment by
+     * @return the update operator
+     * @update.operator $inc
+     * @morphia.experimental
+     * @see Query#prepareUpdate(UpdateOperator, UpdateOperator...)
+     * @since 2.1
+     */
+    public static UpdateOperator inc(String field, Parameter value) {
+        return new UpdateOperator("$inc", field, value);
+    }
+
     /**
      * Only updates the field if the specified value is greater than the existing field value.
      *
@@ -136,6 +152,21 @@ public final class UpdateOperators {
         return new UpdateOperator("$max", field, value);
     }
 
+    /**
+     * Only updates the field if the value bound to a template parameter is greater than the existing field value.
+     *
+     * @param field the field to update
+     * @param value the parameter holding the max value to apply
+     * @return the update operator
+     * @update.operator $max
+     * @morphia.experimental
+     * @see Query#prepareUpdate(UpdateOperator, UpdateOperator...)
+     * @since 2.1
+     */
+    public static UpdateOperator max(String field, Parameter value) {
+        return new UpdateOperator("$max", field, value);
+    }
+
     /**
      * Only updates the field if the specified value is less than the existing field value.
      *
@@ -148,6 +179,21 @@ public final class UpdateOperators {
         return new UpdateOperator("$min", field, value);
     }
 
+    /**
+     * Only updates the field if the value bound to a template parameter is less than the existing field value.
+     *
+     * @param field the field to update
+     * @param value the parameter holding the min value to apply
+     * @return the update operator
+     * @update.operator $min
+     * @morphia.experimental
+     * @see Query#prepareUpdate(UpdateOperator, UpdateOperator...)
+     * @since 2.1
+     */
+    public static UpdateOperator min(String field, Parameter value) {
+        return new UpdateOperator("$min", field, value);
+    }
+
     /**
      * Multiplies the value of the field by the specified amount.
      *
@@ -160,6 +206,21 @@ public final class UpdateOperators {
         return new UpdateOperator("$mul", field, value);
     }
 
+    /**
+     * Multiplies the value of the field by the value bound to a template parameter.
+     *
+     * @param field the field to multiply
+     * @param value the parameter holding the number to multiply by
+     * @return the update operator
+     * @update.operator $mul
+     * @morphia.experimental
+     * @see Query#prepareUpdate(UpdateOperator, UpdateOperator...)
+     * @since 2.1
+     */
+    public static UpdateOperator mul(String field, Parameter value) {
+        return new UpdateOperator("$mul", field, value);
+    }
+
     /**
      * The $bit operator performs a bitwise update of a field. The operator supports bitwise and, bitwise or, and bitwise xor (i.e.
      * exclusive or) operations.
@@ -0,0 +1,201 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.client.MongoCursor;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Adapts a cursor to a {@link Spliterator}.  The cursor itself can only be read sequentially so splitting hands out whole batches
+ * of already decoded results, each of which is exactly sized, while this spliterator keeps reading from the cursor.  A parallel
+ * stream therefore reads one batch at a time on whichever thread splits next and processes the batches concurrently.
+ * <p>
+ * The total number of results is not known up front so the size reported is unknown, {@link Long#MAX_VALUE}, until the cursor is
+ * found to be exhausted.  Reporting the size never reads from the cursor.
+ * <p>
+ * Read ahead is bounded by the number of split batches not yet consumed.  Once {@link #MAX_OUTSTANDING_BATCHES} are outstanding
+ * a split waits for one of them to be consumed.  If none is consumed within {@link #SPLIT_WAIT_MILLIS}, for instance because a
+ * short-circuiting stream abandoned them, the split fails and the remaining results are read sequentially.
+ *
+ * @param <T> the type of the results
+ * @morphia.internal
+ * @since 2.1
+ */
+public class CursorSpliterator<T> implements Spliterator<T> {
+    /**
+     * The most split batches held in memory at once
+     */
+    public static final int MAX_OUTSTANDING_BATCHES = Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+    /**
+     * How long a split waits for an outstanding batch to be consumed
+     */
+    public static final long SPLIT_WAIT_MILLIS = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 101;
+    private static final int CHARACTERISTICS = ORDERED | NONNULL;
+
+    private final MongoCursor<T> cursor;
+    private final int batchSize;
+    private final Semaphore outstanding = new Semaphore(MAX_OUTSTANDING_BATCHES);
+    private boolean exhausted;
+
+    /**
+     * Creates a spliterator
+     *
+     * @param cursor    the cursor to read from
+     * @param batchSize the batch size requested of the server or 0 for the server default
+     */
+    public CursorSpliterator(MongoCursor<T> cursor, int batchSize) {
+        this.cursor = cursor;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    @Override
+    public long estimateSize() {
+        return exhausted ? 0 : Long.MAX_VALUE;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (hasNext()) {
+            action.accept(cursor.next());
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!hasNext()) {
+            return false;
+        }
+        action.accept(cursor.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (exhausted || !acquire()) {
+            return null;
+        }
+        if (!hasNext()) {
+            outstanding.release();
+            return null;
+        }
+        Object[] batch = new Object[batchSize];
+        int size = 0;
+        do {
+            batch[size++] = cursor.next();
+        } while (size < batchSize && hasNext());
+        return new Batch(batch, size);
+    }
+
+    /**
+     * Takes a slot for a new batch, blocking in a way that lets a fork join pool compensate for the waiting thread
+     */
+    private boolean acquire() {
+        if (outstanding.tryAcquire()) {
+            return true;
+        }
+        BatchBlocker blocker = new BatchBlocker();
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return blocker.acquired;
+    }
+
+    private boolean hasNext() {
+        if (!exhausted && !cursor.hasNext()) {
+            exhausted = true;
+        }
+        return !exhausted;
+    }
+
+    private final class BatchBlocker implements ManagedBlocker {
+        private boolean acquired;
+        private boolean waited;
+
+        @Override
+        public boolean block() throws InterruptedException {
+            acquired = outstanding.tryAcquire(SPLIT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            waited = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (!acquired && !waited) {
+                acquired = outstanding.tryAcquire();
+            }
+            return acquired || waited;
+        }
+    }
+
+    /**
+     * A split batch which gives its slot back once it has been consumed
+     */
+    private final class Batch implements Spliterator<T> {
+        private final Object[] values;
+        private final int end;
+        private int index;
+        private boolean released;
+
+        private Batch(Object[] values, int end) {
+            this.values = values;
+            this.end = end;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS | SIZED | SUBSIZED;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (index < end) {
+                action.accept((T) values[index++]);
+            }
+            release();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= end) {
+                release();
+                return false;
+            }
+            action.accept((T) values[index++]);
+            if (index == end) {
+                release();
+            }
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        private void release() {
+            if (!released) {
+                released = true;
+                outstanding.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.client.MongoCursor;
+import dev.morphia.query.ExportFormat;
+import org.bson.RawBsonDocument;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Copies raw results to an output stream without decoding them.  BSON results are written straight from the buffers the driver read
+ * them in to.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public final class Exporter {
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder()
+                                                                              .outputMode(JsonMode.RELAXED)
+                                                                              .build();
+    private static final byte[] NEWLINE = "\n".getBytes(UTF_8);
+
+    private Exporter() {
+    }
+
+    /**
+     * Writes every remaining result and closes the cursor.  The output stream is flushed but left open.
+     *
+     * @param cursor the cursor to read
+     * @param out    the stream to write to
+     * @param format the format to write
+     * @return the number of documents written
+     */
+    public static long export(MongoCursor<RawBsonDocument> cursor, OutputStream out, ExportFormat format) {
+        WritableByteChannel channel = Channels.newChannel(out);
+        long count = 0;
+        try (cursor) {
+            while (cursor.hasNext()) {
+                RawBsonDocument document = cursor.next();
+                if (format == ExportFormat.BSON) {
+                    write(channel, document.getByteBuffer().asNIO());
+                } else {
+                    write(channel, ByteBuffer.wrap(document.toJson(JSON_SETTINGS).getBytes(UTF_8)));
+                    write(channel, ByteBuffer.wrap(NEWLINE));
+                }
+                count++;
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private static void write(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Decodes results on an executor.  The results are read from the server as raw documents, which costs little more than copying
+ * their bytes, and handed to the executor in chunks for decoding.  A bounded number of chunks is in flight at a time.
+ * <p>
+ * When ordered, results are returned in the order the server sent them.  Otherwise each chunk is returned as soon as it has been
+ * decoded which avoids one slow chunk holding up those after it.  Lifecycle methods and {@link dev.morphia.EntityInterceptor}s run
+ * on the executor's threads as each entity is decoded.
+ *
+ * @param <T> the type of the results
+ * @morphia.internal
+ * @since 2.1
+ */
+public class ParallelDecodingCursor<T> implements MongoCursor<T> {
+    private static final int CHUNK_SIZE = 32;
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private final MongoCursor<RawBsonDocument> wrapped;
+    private final Decoder<T> decoder;
+    private final Executor executor;
+    private final boolean ordered;
+    private final int window;
+    private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+    private final BlockingQueue<CompletableFuture<List<T>>> completed = new LinkedBlockingQueue<>();
+    private Iterator<T> current = Collections.emptyIterator();
+    private int inFlight;
+    private boolean closed;
+
+    /**
+     * Creates a cursor
+     *
+     * @param wrapped  the cursor of raw results
+     * @param decoder  the decoder for the results
+     * @param executor the executor to decode on
+     * @param ordered  true if the results should be returned in the order they are read
+     */
+    public ParallelDecodingCursor(MongoCursor<RawBsonDocument> wrapped, Decoder<T> decoder, Executor executor, boolean ordered) {
+        this.wrapped = wrapped;
+        this.decoder = decoder;
+        this.executor = executor;
+        this.ordered = ordered;
+        int parallelism = executor instanceof ForkJoinPool
+                          ? ((ForkJoinPool) executor).getParallelism()
+                          : Runtime.getRuntime().availableProcessors();
+        window = 2 * parallelism;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            pending.forEach(future -> future.cancel(false));
+            pending.clear();
+            completed.clear();
+            current = Collections.emptyIterator();
+            wrapped.close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!closed && !current.hasNext()) {
+            submit();
+            if (inFlight == 0) {
+                return false;
+            }
+            current = join(nextChunk()).iterator();
+        }
+        return !closed;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? current.next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private List<T> decode(List<RawBsonDocument> chunk) {
+        List<T> entities = new ArrayList<>(chunk.size());
+        for (RawBsonDocument document : chunk) {
+            entities.add(decoder.decode(document.asBsonReader(), DECODER_CONTEXT));
+        }
+        return entities;
+    }
+
+    private List<T> join(CompletableFuture<List<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<List<T>> nextChunk() {
+        inFlight--;
+        if (ordered) {
+            return pending.removeFirst();
+        }
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MongoInterruptedException(e.getMessage(), e);
+        }
+    }
+
+    private void submit() {
+        while (inFlight < window && wrapped.hasNext()) {
+            List<RawBsonDocument> chunk = new ArrayList<>(CHUNK_SIZE);
+            do {
+                chunk.add(wrapped.next());
+            } while (chunk.size() < CHUNK_SIZE && wrapped.hasNext());
+
+            CompletableFuture<List<T>> future = CompletableFuture.supplyAsync(() -> decode(chunk), executor);
+            if (ordered) {
+                pending.addLast(future);
+            } else {
+                future.whenComplete((entities, error) -> completed.add(future));
+            }
+            inFlight++;
+        }
+    }
+}
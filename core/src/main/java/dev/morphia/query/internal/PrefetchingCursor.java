@@ -0,0 +1,220 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.sofia.Sofia;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reads ahead of the consumer on a thread of the given executor.  That thread drives the wrapped cursor so the {@code getMore}
+ * round trips and the decoding of each batch overlap with the consumer's processing of earlier results.  Read ahead is limited
+ * by a bounded buffer so a slow consumer stalls the background thread rather than exhausting memory.  The background thread is held
+ * until the wrapped cursor is exhausted or this cursor is closed so the executor needs a thread for each open cursor.
+ * <p>
+ * Any error raised while fetching is rethrown by the next call to {@link #hasNext()} once the results fetched before it have been
+ * consumed.  Closing this cursor stops the background thread and closes the wrapped cursor.  If the background task has not started
+ * by then it never reads and the wrapped cursor is closed by the caller instead.
+ *
+ * @param <T> the type of the results
+ * @morphia.internal
+ * @since 2.1
+ */
+public class PrefetchingCursor<T> implements MongoCursor<T> {
+    private static final int DEFAULT_BATCH_SIZE = 101;
+    private static final Object END = new Object();
+
+    private final MongoCursor<T> wrapped;
+    private final BlockingQueue<Object> buffer;
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ServerAddress serverAddress;
+    private volatile boolean closed;
+    private volatile RuntimeException error;
+    private Object next;
+    private boolean exhausted;
+
+    /**
+     * Creates a cursor and starts reading ahead
+     *
+     * @param wrapped   the cursor to read from
+     * @param batches   the number of batches to buffer
+     * @param batchSize the batch size requested of the server or 0 for the server default
+     * @param executor  the executor to read on
+     * @throws RejectedExecutionException if the executor does not accept the task, in which case the wrapped cursor is closed
+     */
+    public PrefetchingCursor(MongoCursor<T> wrapped, int batches, int batchSize, Executor executor) {
+        if (batches < 1) {
+            throw new IllegalArgumentException(Sofia.invalidPrefetch(batches));
+        }
+        Objects.requireNonNull(executor, Sofia.notNull("executor"));
+        this.wrapped = wrapped;
+        serverAddress = wrapped.getServerAddress();
+        buffer = new ArrayBlockingQueue<>(batches * (batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE));
+        try {
+            executor.execute(this::fetch);
+        } catch (RejectedExecutionException e) {
+            started.set(true);
+            wrapped.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Wraps a cursor when prefetching is requested
+     *
+     * @param cursor    the cursor to wrap
+     * @param batches   the number of batches to buffer or 0 if prefetching is disabled
+     * @param batchSize the batch size requested of the server or 0 for the server default
+     * @param executor  the executor to read on
+     * @param <T>       the type of the results
+     * @return the cursor to use
+     */
+    public static <T> MongoCursor<T> wrap(MongoCursor<T> cursor, int batches, int batchSize, Executor executor) {
+        return batches > 0 ? new PrefetchingCursor<>(cursor, batches, batchSize, executor) : cursor;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            buffer.clear();
+            if (started.compareAndSet(false, true)) {
+                wrapped.close();
+                return;
+            }
+            try {
+                finished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException(e.getMessage(), e);
+            }
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (next == null && !exhausted) {
+            try {
+                next = buffer.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException(e.getMessage(), e);
+            }
+        }
+        return checkEnd();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T value = (T) next;
+        next = null;
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T tryNext() {
+        if (closed) {
+            return null;
+        }
+        if (next == null && !exhausted) {
+            next = buffer.poll();
+        }
+        if (next == null || !checkEnd()) {
+            return null;
+        }
+        T value = (T) next;
+        next = null;
+        return value;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return closed || exhausted ? null : wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return serverAddress;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private boolean checkEnd() {
+        if (next == END) {
+            exhausted = true;
+            next = null;
+            RuntimeException e = error;
+            if (e != null) {
+                error = null;
+                throw e;
+            }
+        }
+        return !exhausted && next != null;
+    }
+
+    private void fetch() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (!closed && wrapped.hasNext()) {
+                if (!offer(wrapped.next())) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            error = new MongoInterruptedException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            error = e;
+        } finally {
+            try {
+                wrapped.close();
+            } catch (RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+            finished.countDown();
+            try {
+                offer(END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Waits for space in the buffer while periodically checking whether the consumer has closed this cursor
+     */
+    private boolean offer(Object value) throws InterruptedException {
+        while (!closed) {
+            if (buffer.offer(value, 100, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
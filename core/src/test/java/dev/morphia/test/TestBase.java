@@ -18,6 +18,8 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.query.DefaultQueryFactory;
 import dev.morphia.query.LegacyQueryFactory;
+import dev.morphia.query.QueryLogger;
+import dev.morphia.test.models.FacebookUser;
 import org.bson.Document;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -45,6 +47,7 @@ import static org.testng.Assert.fail;
 public abstract class TestBase {
     protected static final String TEST_DB_NAME = "morphia_test";
     private static final Logger LOG = LoggerFactory.getLogger(TestBase.class);
+    private static final QueryLogger QUERY_LOGGER = new QueryLogger();
     protected static MongoClient mongoClient;
     private final MapperOptions mapperOptions = MapperOptions.DEFAULT;
 
@@ -82,6 +85,7 @@ public abstract class TestBase {
     public Datastore getDs() {
         if (ds == null) {
             ds = Morphia.createDatastore(getMongoClient(), getDatabase().getName());
+            ds.getMapper().setQueryLogger(QUERY_LOGGER);
         }
         return ds;
     }
@@ -134,6 +138,18 @@ public abstract class TestBase {
         return count;
     }
 
+    /**
+     * @param count the number of users to create
+     * @return users with ids from 0 to {@code count - 1} each named "user" followed by its id
+     */
+    protected List<FacebookUser> createUsers(int count) {
+        List<FacebookUser> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(new FacebookUser(i, "user" + i));
+        }
+        return users;
+    }
+
     protected List<Document> getIndexInfo(Class<?> clazz) {
         return getMapper().getCollection(clazz).listIndexes().into(new ArrayList<>());
     }
@@ -285,7 +301,8 @@ public abstract class TestBase {
     }
 
     private void startMongo() {
-        Builder builder = MongoClientSettings.builder();
+        Builder builder = MongoClientSettings.builder()
+                                             .addCommandListener(QUERY_LOGGER);
 
         try {
             builder.uuidRepresentation(mapperOptions.getUuidRepresentation());
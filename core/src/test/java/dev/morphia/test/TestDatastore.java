@@ -1,33 +1,159 @@
 package dev.morphia.test;
 
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.UpdateResult;
+import dev.morphia.BatchOptions;
+import dev.morphia.BulkInsertOptions;
+import dev.morphia.BulkWriteOptions;
+import dev.morphia.BulkWriteReport;
 import dev.morphia.DeleteOptions;
+import dev.morphia.IndexReport;
+import dev.morphia.IndexReport.IndexResult;
 import dev.morphia.ModifyOptions;
 import dev.morphia.UpdateOptions;
+import dev.morphia.mapping.HiLoIdGenerator;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.metrics.Histogram.Snapshot;
+import dev.morphia.metrics.HistogramMetrics;
+import dev.morphia.query.CountOptions;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
+import dev.morphia.query.QueryLogger.LoggedQuery;
+import dev.morphia.query.Sort;
+import dev.morphia.query.Tail;
+import dev.morphia.query.TailOptions;
 import dev.morphia.query.Update;
+import dev.morphia.query.UpdateException;
+import dev.morphia.query.UpdateTemplate;
+import dev.morphia.query.ValidationException;
+import dev.morphia.test.models.Author;
+import dev.morphia.test.models.Book;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CurrentStatus;
 import dev.morphia.test.models.FacebookUser;
+import dev.morphia.test.models.IndexedProduct;
+import dev.morphia.test.models.QueueMessage;
+import dev.morphia.test.models.Shipment;
+import dev.morphia.test.models.Ticket;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.Document;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
 import static com.mongodb.client.model.ReturnDocument.AFTER;
 import static com.mongodb.client.model.ReturnDocument.BEFORE;
+import static dev.morphia.query.Parameter.param;
 import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gte;
 import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
 import static dev.morphia.query.experimental.updates.UpdateOperators.set;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 class TestDatastore extends TestBase {
+    @Test
+    public void testBulkInsert() {
+        List<Book> books = IntStream.range(0, 2500)
+                                    .mapToObj(i -> new Book("title" + i, null, i))
+                                    .collect(toList());
+        List<InsertManyResult> batches = new ArrayList<>();
+        long inserted = getDs().insert(books.stream(), new BulkInsertOptions()
+                                                           .batchSize(500)
+                                                           .maxBatchBytes(16 * 1024)
+                                                           .encodeExecutor(ForkJoinPool.commonPool())
+                                                           .batchListener(batches::add));
+
+        assertEquals(inserted, 2500);
+        assertTrue(batches.size() > 5, "batches should be split by size: " + batches.size());
+        assertTrue(books.stream().allMatch(book -> book.id != null));
+        assertEquals(getDs().find(Book.class).count(), 2500);
+        assertEquals(getDs().find(Book.class).filter(eq("_id", books.get(1234).id)).first().title, "title1234");
+
+        List<Object> mixed = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            mixed.add(i % 10 < 5 ? new FacebookUser(i, "user" + i) : new Book("mixed" + i, null, i));
+        }
+        batches.clear();
+        assertEquals(getDs().insert(mixed.iterator(), new BulkInsertOptions().batchListener(batches::add)), 30);
+        assertEquals(batches.size(), 6);
+        assertEquals(getDs().find(FacebookUser.class).count(), 15);
+        assertEquals(getDs().find(Book.class).count(), 2515);
+    }
+
+    @Test
+    public void testBulkWrite() {
+        getDs().insert(asList(new FacebookUser(1, "user1"), new FacebookUser(2, "user2"), new FacebookUser(3, "user3")));
+        UpdateTemplate<FacebookUser> template = getDs().find(FacebookUser.class)
+                                                       .filter(eq("_id", param("id")))
+                                                       .prepareUpdate(inc("loginCount", param("by")));
+
+        Book book = new Book("title", null, 1);
+        BulkWriteReport report = getDs().bulk()
+                                        .insert(book)
+                                        .insert(new FacebookUser(4, "user4"))
+                                        .replace(new FacebookUser(2, "renamed"))
+                                        .update(getDs().find(FacebookUser.class).filter(gte("_id", 3)), new UpdateOptions().multi(true),
+                                            inc("loginCount", 2))
+                                        .update(template, Map.of("id", 1L, "by", 5), new UpdateOptions())
+                                        .delete(getDs().find(Book.class).filter(eq("title", "missing")), new DeleteOptions())
+                                        .delete(new FacebookUser(3, "user3"))
+                                        .execute(new BulkWriteOptions().batchSize(2));
+
+        assertEquals(report.getInsertedCount(), 2);
+        assertEquals(report.getMatchedCount(), 4);
+        assertEquals(report.getDeletedCount(), 1);
+        assertEquals(report.getResults().size(), 5);
+        assertNotNull(book.id);
+
+        assertEquals(getDs().find(FacebookUser.class).filter(eq("_id", 1L)).first().loginCount, 5);
+        assertEquals(getDs().find(FacebookUser.class).filter(eq("_id", 2L)).first().username, "renamed");
+        assertNull(getDs().find(FacebookUser.class).filter(eq("_id", 3L)).first());
+        assertEquals(getDs().find(FacebookUser.class).filter(eq("_id", 4L)).first().loginCount, 2);
+
+        report = getDs().bulk()
+                        .insert(new Book("other", null, 2))
+                        .delete(getDs().find(FacebookUser.class).filter(eq("_id", 4L)), new DeleteOptions())
+                        .insert(new Book("another", null, 3))
+                        .execute(new BulkWriteOptions().ordered(false));
+        assertEquals(report.getResults().size(), 2);
+        assertEquals(report.getInsertedCount(), 2);
+        assertEquals(report.getDeletedCount(), 1);
+    }
+
     @Test
     public void testCappedEntity() {
         // given
@@ -60,6 +186,17 @@ class TestDatastore extends TestBase {
     }
 
 
+    @Test
+    public void testDeleteMany() {
+        List<FacebookUser> users = createUsers(5);
+        getDs().save(users);
+        getDs().save(new FacebookUser(10, "kept"));
+
+        assertEquals(getDs().delete(users, new BatchOptions().batchSize(2)).getDeletedCount(), 5);
+        assertEquals(getDs().find(FacebookUser.class).count(), 1);
+        assertEquals(getDs().delete(users).getDeletedCount(), 0);
+    }
+
     @Test
     public void testDeleteWithCollation() {
         getDs().save(asList(new FacebookUser(1, "John Doe"),
@@ -97,6 +234,51 @@ class TestDatastore extends TestBase {
         assertTrue(delete.getDeletedCount() > 1, "Should the rest");
     }
 
+    @Test
+    public void testDistinct() {
+        List<FacebookUser> users = createUsers(6);
+        users.forEach(user -> {
+            user.username = "user" + user.id % 3;
+            user.loginCount = (int) user.id % 2;
+        });
+        getDs().save(users);
+
+        List<String> names = getDs().find(FacebookUser.class).distinct("username", String.class);
+        assertEquals(names.stream().sorted().collect(toList()), List.of("user0", "user1", "user2"));
+
+        List<Integer> counts = getDs().find(FacebookUser.class)
+                                      .filter(eq("username", "user1"))
+                                      .distinct("loginCount", Integer.class);
+        assertEquals(counts.stream().sorted().collect(toList()), List.of(0, 1));
+
+        assertThrows(ValidationException.class, () -> getDs().find(FacebookUser.class).distinct("missing", String.class));
+    }
+
+    @Test
+    public void testEstimatedCount() {
+        getDs().save(createUsers(5));
+
+        assertEquals(getDs().find(FacebookUser.class).count(new CountOptions().estimate(true)), 5);
+        assertEquals(getDs().find(FacebookUser.class)
+                            .filter(eq("username", "user1"))
+                            .count(new CountOptions().estimate(true)), 1);
+        assertEquals(getDs().find(FacebookUser.class).count(new CountOptions().estimate(true).limit(2)), 2);
+    }
+
+    @Test
+    public void testExists() {
+        assertFalse(getDs().find(FacebookUser.class).exists());
+
+        getDs().save(new FacebookUser(1, "user1"));
+        assertTrue(getDs().find(FacebookUser.class).exists());
+        assertTrue(getDs().find(FacebookUser.class).filter(eq("username", "user1")).exists());
+        assertFalse(getDs().find(FacebookUser.class).filter(eq("username", "user2")).exists());
+
+        FindOptions options = new FindOptions().projection().include("username");
+        assertTrue(getDs().find(FacebookUser.class).exists(options));
+        assertEquals(getDs().find(FacebookUser.class).first(options).username, "user1");
+    }
+
     @Test
     public void testFindAndDeleteWithCollation() {
         getDs().save(asList(new FacebookUser(1, "John Doe"),
@@ -183,6 +365,145 @@ class TestDatastore extends TestBase {
         assertEquals(user.username, "Ron Swanson");
     }
 
+    @Test
+    public void testFindByIds() {
+        getDs().save(createUsers(10));
+
+        List<FacebookUser> found = getDs().findByIds(FacebookUser.class, asList(7L, 2L, 42L, 5L, 2L, 9L, 0L),
+            new BatchOptions()
+                .batchSize(3)
+                .executor(ForkJoinPool.commonPool()));
+        assertEquals(found.stream().map(u -> u.id).collect(toList()), asList(7L, 2L, 5L, 9L, 0L));
+        assertEquals(found.get(0).username, "user7");
+
+        assertEquals(getDs().findByIds(FacebookUser.class, List.of()).size(), 0);
+    }
+
+    @Test
+    public void testFlightRecorderEvents() throws IOException {
+        getDs().insert(asList(new FacebookUser(1, "Steve"), new FacebookUser(2, "Ann")));
+
+        Path dump = Files.createTempFile("morphia", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("dev.morphia.Query");
+            recording.enable("dev.morphia.EntityDecode");
+            recording.start();
+            assertEquals(getDs().find(FacebookUser.class)
+                                .filter(eq("username", "Steve"))
+                                .iterator()
+                                .toList()
+                                .size(), 1);
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            RecordedEvent query = events.stream()
+                                        .filter(e -> e.getEventType().getName().equals("dev.morphia.Query"))
+                                        .findFirst()
+                                        .orElseThrow();
+            assertEquals(query.getString("collection"), "facebook_users");
+            assertEquals(query.getString("filter"), "{\"username\": \"?\"}");
+            assertEquals(query.getLong("documents"), 1);
+            assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("dev.morphia.EntityDecode")));
+        } finally {
+            Files.delete(dump);
+        }
+    }
+
+    @Test
+    public void testHiLoIdGeneration() {
+        Ticket first = getDs().save(new Ticket("first"));
+        List<Ticket> tickets = asList(new Ticket("second"), new Ticket("third"));
+        getDs().insert(tickets);
+
+        assertEquals(first.getId(), Long.valueOf(1));
+        assertEquals(tickets.get(0).getId(), Long.valueOf(2));
+        assertEquals(tickets.get(1).getId(), Long.valueOf(3));
+
+        Document counter = getDatabase().getCollection(HiLoIdGenerator.DEFAULT_COLLECTION)
+                                        .find(new Document("_id", "tickets"))
+                                        .first();
+        assertNotNull(counter);
+        assertEquals(counter.get("next"), (long) HiLoIdGenerator.DEFAULT_BLOCK_SIZE);
+        assertEquals(getDs().find(Ticket.class).filter(eq("_id", 3L)).first().getSubject(), "third");
+    }
+
+    @Test
+    public void testIndexReport() {
+        getMapper().map(IndexedProduct.class);
+        IndexReport report = getDs().ensureIndexes(ForkJoinPool.commonPool());
+        assertEquals(names(report.getCreated()), List.of("category_price", "name_1", "sku_1"));
+        assertFalse(report.hasConflicts());
+
+        report = getDs().ensureIndexes(ForkJoinPool.commonPool());
+        assertTrue(names(report.getCreated()).isEmpty());
+        assertEquals(names(report.getUnchanged()), List.of("category_price", "name_1", "sku_1"));
+
+        MongoCollection<Document> products = getDs().getDatabase().getCollection("indexed_products");
+        products.dropIndex("sku_1");
+        products.createIndex(new Document("sku", 1));
+        report = getDs().ensureIndexes(ForkJoinPool.commonPool());
+        assertEquals(names(report.getConflicts()), List.of("sku_1"));
+        assertThrows(MappingException.class, () -> getDs().ensureIndexes(IndexedProduct.class));
+
+        products.dropIndex("name_1");
+        products.createIndex(new Document("name", 1), new IndexOptions().collation(Collation.builder().locale("fr").build()));
+        report = getDs().ensureIndexes(ForkJoinPool.commonPool());
+        assertEquals(names(report.getConflicts()), List.of("name_1", "sku_1"));
+    }
+
+    @Test
+    public void testLoggedQuery() {
+        getDs().insert(asList(new FacebookUser(1, "Steve"), new FacebookUser(2, "Ann")));
+
+        FindOptions options = new FindOptions()
+                                  .logQuery()
+                                  .sort(Sort.descending("username"))
+                                  .projection().include("username");
+        List<FacebookUser> users = getDs().find(FacebookUser.class)
+                                          .filter(eq("loginCount", 0))
+                                          .iterator(options)
+                                          .toList();
+        assertEquals(users.size(), 2);
+
+        assertEquals(getDs().getLoggedQuery(options), new Document("loginCount", 0).toJson());
+        LoggedQuery loggedQuery = getMapper().getQueryLogger().getLoggedQuery(options);
+        assertNotNull(loggedQuery);
+        assertEquals(loggedQuery.getSort(), new BsonDocument("username", new BsonInt32(-1)));
+        assertTrue(loggedQuery.getProjection().containsKey("username"));
+        assertTrue(loggedQuery.getDuration(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    public void testMetrics() {
+        HistogramMetrics metrics = new HistogramMetrics();
+        getMapper().setMetrics(metrics);
+        try {
+            getDs().save(new FacebookUser(1, "Steve"));
+            getDs().insert(asList(new FacebookUser(2, "Ann"), new FacebookUser(3, "Joe")));
+            assertEquals(getDs().find(FacebookUser.class).iterator().toList().size(), 3);
+            getDs().find(FacebookUser.class)
+                   .update(inc("loginCount", 1))
+                   .execute(new UpdateOptions().multi(true));
+            getDs().delete(getDs().find(FacebookUser.class).filter(eq("_id", 1L)).first());
+        } finally {
+            getMapper().setMetrics(null);
+        }
+
+        Map<String, Snapshot> snapshot = metrics.snapshot();
+        assertEquals(snapshot.get("write.save:facebook_users").getItems(), 1);
+        assertEquals(snapshot.get("write.insert:facebook_users").getItems(), 2);
+        assertEquals(snapshot.get("write.update:facebook_users").getItems(), 3);
+        assertEquals(snapshot.get("write.delete:facebook_users").getItems(), 1);
+        assertEquals(snapshot.get("query:facebook_users").getCount(), 2);
+        assertEquals(snapshot.get("encode:" + FacebookUser.class.getName()).getCount(), 3);
+        assertEquals(snapshot.get("decode:" + FacebookUser.class.getName()).getCount(), 4);
+
+        Snapshot decodes = snapshot.get("decode:" + FacebookUser.class.getName());
+        assertTrue(decodes.getPercentile(50, TimeUnit.NANOSECONDS) <= decodes.getMax(TimeUnit.NANOSECONDS));
+        assertTrue(decodes.getTotal(TimeUnit.NANOSECONDS) > 0);
+    }
+
     @Test
     public void testRefresh() {
         FacebookUser steve = getDs().save(new FacebookUser(1, "Steve"));
@@ -210,6 +531,143 @@ class TestDatastore extends TestBase {
 
     }
 
+    @Test
+    public void testRefreshMany() {
+        List<FacebookUser> users = createUsers(20);
+        getDs().insert(users);
+        getDs().find(FacebookUser.class)
+               .filter(gte("_id", 5))
+               .update(inc("loginCount", 3))
+               .execute(new UpdateOptions().multi(true));
+        getDs().find(FacebookUser.class)
+               .filter(eq("_id", 19))
+               .delete();
+
+        FacebookUser duplicate = new FacebookUser(7, "user7");
+        List<FacebookUser> refreshing = new ArrayList<>(users);
+        refreshing.add(duplicate);
+        assertEquals(getDs().refresh(refreshing), 20);
+
+        for (FacebookUser user : users) {
+            assertEquals(user.loginCount, user.id >= 5 && user.id != 19 ? 3 : 0, "id " + user.id);
+        }
+        assertEquals(duplicate.loginCount, 3);
+
+        getDocumentCollection(FacebookUser.class).insertOne(new Document("_id", 42).append("loginCount", 9));
+        FacebookUser stored = new FacebookUser(42, "user42");
+        assertEquals(getDs().refresh(List.of(stored)), 1);
+        assertEquals(stored.loginCount, 9);
+    }
+
+    @Test
+    public void testShardKeyFilters() {
+        EntityModel model = getMapper().map(Shipment.class).get(0);
+        assertEquals(model.getShardKeys().size(), 1);
+        assertEquals(model.getShardKeys().get(0).getName(), "region");
+
+        Shipment shipment = getDs().save(new Shipment("emea", 10));
+        assertTrue(model.isSharded());
+        assertEquals(getMapper().getShardKeyValues(shipment), new Document("region", "emea"));
+
+        shipment.setRegion("apac");
+        assertThrows(UpdateException.class, () -> getDs().save(shipment));
+        assertEquals(getDs().find(Shipment.class).count(), 1);
+        assertEquals(getDs().find(Shipment.class).first().getRegion(), "emea");
+        assertThrows(UpdateException.class, () -> getDs().bulk().replace(shipment).execute());
+        assertEquals(getDs().find(Shipment.class).count(), 1);
+        assertEquals(getDs().delete(shipment).getDeletedCount(), 0);
+
+        shipment.setRegion("emea");
+        assertEquals(getDs().delete(shipment).getDeletedCount(), 1);
+    }
+
+    @Test
+    public void testTail() throws Exception {
+        getMapper().map(QueueMessage.class);
+        getDs().ensureCaps();
+
+        List<Integer> seen = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Tail<QueueMessage> tail = getDs().find(QueueMessage.class)
+                                             .filter(eq("topic", "orders"))
+                                             .tail(messages -> messages.forEach(message -> seen.add(message.sequence)),
+                                                 new TailOptions()
+                                                     .executor(executor)
+                                                     .batchSize(10)
+                                                     .maxAwaitTime(100, TimeUnit.MILLISECONDS));
+            for (int i = 0; i < 50; i++) {
+                getDs().save(new QueueMessage(i % 5 == 0 ? "audit" : "orders", i));
+            }
+            List<Integer> expected = IntStream.range(0, 50)
+                                              .filter(i -> i % 5 != 0)
+                                              .boxed()
+                                              .collect(toList());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (seen.size() < expected.size() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(seen, expected);
+
+            tail.close();
+            tail.getCompletion().get(5, TimeUnit.SECONDS);
+            assertTrue(tail.isClosed());
+
+            AtomicInteger deliveries = new AtomicInteger();
+            Tail<QueueMessage> failing = getDs().find(QueueMessage.class)
+                                                .tail(messages -> {
+                                                    deliveries.incrementAndGet();
+                                                    throw new MongoException("rejected");
+                                                }, new TailOptions()
+                                                       .executor(executor)
+                                                       .maxAwaitTime(100, TimeUnit.MILLISECONDS));
+            ExecutionException failure = expectThrows(ExecutionException.class,
+                () -> failing.getCompletion().get(10, TimeUnit.SECONDS));
+            assertEquals(failure.getCause().getMessage(), "rejected");
+            assertEquals(deliveries.get(), 1);
+            assertTrue(failing.isClosed());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUpdateTemplate() {
+        getDs().insert(asList(new FacebookUser(1, "user1"), new FacebookUser(2, "user2"), new FacebookUser(3, "user3")));
+
+        UpdateTemplate<FacebookUser> template = getDs().find(FacebookUser.class)
+                                                       .filter(eq("_id", param("id")))
+                                                       .prepareUpdate(inc("loginCount", param("by")), set("username", param("name")));
+        assertEquals(template.getParameters(), Set.of("id", "by", "name"));
+
+        assertEquals(template.update(Map.of("id", 1L, "by", 2, "name", "first")).getModifiedCount(), 1);
+        FacebookUser modified = template.modify(Map.of("id", 2L, "by", 5, "name", "second"), new ModifyOptions().returnDocument(AFTER));
+        assertEquals(modified.loginCount, 5);
+        assertEquals(modified.username, "second");
+
+        getMapper().getCollection(FacebookUser.class)
+               .bulkWrite(asList(template.toWriteModel(Map.of("id", 3L, "by", 1, "name", "third"), new UpdateOptions()),
+                   template.toWriteModel(Map.of("id", 3L, "by", 1, "name", "third"), new UpdateOptions())));
+
+        FacebookUser first = getDs().find(FacebookUser.class).filter(eq("_id", 1L)).first();
+        assertEquals(first.loginCount, 2);
+        assertEquals(first.username, "first");
+        assertEquals(getDs().find(FacebookUser.class).filter(eq("_id", 3L)).first().loginCount, 2);
+
+        assertThrows(UpdateException.class, () -> template.update(Map.of("id", 1L, "by", 2)));
+        assertThrows(UpdateException.class, () -> template.update(Map.of("id", 1L, "by", 2, "name", "first", "extra", 1)));
+
+        Author author = new Author();
+        author.name = "Tolstoy";
+        getDs().save(author);
+        Book book = getDs().save(new Book("War and Peace", null, 1));
+        getDs().find(Book.class)
+               .filter(eq("_id", param("id")))
+               .prepareUpdate(set("author", param("author")))
+               .update(Map.of("id", book.id, "author", author));
+        assertEquals(getDs().find(Book.class).filter(eq("_id", book.id)).first().author.name, "Tolstoy");
+    }
+
     @Test
     public void testUpdateWithCollation() {
         getDs().save(asList(new FacebookUser(1, "John Doe"),
@@ -243,4 +701,11 @@ class TestDatastore extends TestBase {
                          .loginCount, 2);
     }
 
-}
\ No newline at end of file
+    private List<String> names(List<IndexResult> results) {
+        return results.stream()
+                      .filter(result -> result.getCollection().equals("indexed_products"))
+                      .map(IndexResult::getName)
+                      .sorted()
+                      .collect(toList());
+    }
+}
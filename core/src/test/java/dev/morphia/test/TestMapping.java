@@ -15,6 +15,10 @@
 package dev.morphia.test;
 
 
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
 import dev.morphia.Morphia;
 import dev.morphia.annotations.AlsoLoad;
@@ -22,17 +26,22 @@ import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.LoadOnly;
+import dev.morphia.annotations.Reference;
 import dev.morphia.annotations.experimental.Constructor;
 import dev.morphia.annotations.experimental.Name;
+import dev.morphia.mapping.CompactNamesConvention;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.NamingStrategy;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.mapping.experimental.MorphiaReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.mapping.validation.ConstraintViolationException;
+import dev.morphia.metrics.Histogram.Snapshot;
+import dev.morphia.metrics.HistogramMetrics;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
@@ -75,6 +84,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
@@ -96,6 +106,13 @@ public class TestMapping extends TestBase {
         assertEquals(list.get(1).getCollectionName(), "banned");
     }
 
+    @Test
+    public void collectionCaching() {
+        MongoCollection<ReportEntry> collection = getMapper().getCollection(ReportEntry.class);
+        assertSame(getMapper().getCollection(ReportEntry.class), collection);
+        assertEquals(getMapper().getWriteConcern(ReportEntry.class), WriteConcern.JOURNALED);
+    }
+
     @Test
     public void collectionNaming() {
         MapperOptions options = MapperOptions.builder()
@@ -117,6 +134,37 @@ public class TestMapping extends TestBase {
         assertEquals(map.get(1).getCollectionName(), "cil");
     }
 
+    @Test
+    public void compactNames() {
+        MapperOptions options = MapperOptions.builder()
+                                             .addConvention(new CompactNamesConvention())
+                                             .build();
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(), options);
+        EntityModel model = datastore.getMapper().map(Normal.class).get(0);
+
+        String mappedName = model.getField("name").getMappedName();
+        assertEquals(mappedName, "0a");
+        assertEquals(model.getField("_id").getName(), "id");
+
+        datastore.save(new Normal("compact"));
+        Document document = getDatabase().getCollection("Normal").find().first();
+        assertNotNull(document);
+        assertFalse(document.containsKey("name"));
+        assertEquals(document.get(mappedName), "compact");
+        assertNotNull(datastore.find(Normal.class).filter(eq("name", "compact")).first());
+
+        getDatabase().getCollection("Normal").insertOne(new Document("_id", new ObjectId()).append("name", "verbose"));
+        assertEquals(datastore.find(Normal.class).iterator().toList().stream()
+                              .filter(n -> "verbose".equals(n.name))
+                              .count(), 1);
+
+        options = MapperOptions.builder()
+                               .addConvention(new CompactNamesConvention())
+                               .build();
+        datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(), options);
+        assertEquals(datastore.getMapper().map(Normal.class).get(0).getField("name").getMappedName(), mappedName);
+    }
+
     @Test
     public void constructors() {
         getDs().getMapper().map(ConstructorBased.class);
@@ -163,6 +211,25 @@ public class TestMapping extends TestBase {
 
     }
 
+    @Test
+    public void readDefaults() {
+        getMapper().map(ReportEntry.class);
+        MongoCollection<ReportEntry> collection = getMapper().getCollection(ReportEntry.class);
+
+        assertEquals(collection.getReadPreference(), ReadPreference.secondaryPreferred());
+        assertEquals(collection.getReadConcern(), ReadConcern.MAJORITY);
+        assertEquals(collection.getWriteConcern(), WriteConcern.JOURNALED);
+
+        FindOptions options = new FindOptions().readPreference(ReadPreference.primary());
+        assertEquals(options.prepare(collection).getReadPreference(), ReadPreference.primary());
+
+        assertSame(getMapper().getCollection("reports", ReportEntry.class), collection);
+        MongoCollection<ReportEntry> archive = getMapper().getCollection("reports_archive", ReportEntry.class);
+        assertEquals(archive.getNamespace().getCollectionName(), "reports_archive");
+        assertEquals(archive.getReadPreference(), ReadPreference.secondaryPreferred());
+        assertEquals(archive.getReadConcern(), ReadConcern.MAJORITY);
+    }
+
     @org.junit.Test
     public void shouldSupportGenericArrays() {
         getMapper().map(MyEntity.class);
@@ -501,6 +568,43 @@ public class TestMapping extends TestBase {
         assertEquals((int) cilLoaded.intList.get(0), 1);
     }
 
+    @Test
+    public void testLazyReferenceGroups() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder().referenceBatchSize(3).build());
+        datastore.getMapper().map(LazyParent.class, LazyChild.class);
+        for (int i = 0; i < 5; i++) {
+            LazyChild child = new LazyChild("child" + i);
+            datastore.save(child);
+            datastore.save(new LazyParent(child));
+        }
+
+        HistogramMetrics metrics = new HistogramMetrics();
+        datastore.getMapper().setMetrics(metrics);
+        List<LazyParent> parents = datastore.find(LazyParent.class).iterator().toList();
+        for (LazyParent parent : parents) {
+            assertFalse(((MorphiaProxy) parent.child).isFetched());
+        }
+        List<String> names = parents.stream()
+                                    .map(parent -> parent.child.getName())
+                                    .sorted()
+                                    .collect(toList());
+        assertEquals(names, List.of("child0", "child1", "child2", "child3", "child4"));
+
+        Snapshot fetches = metrics.snapshot().get("fetch:" + datastore.getMapper().getEntityModel(LazyChild.class).getCollectionName());
+        assertEquals(fetches.getCount(), 2);
+        assertEquals(fetches.getItems(), 5);
+
+        metrics.reset();
+        List<LazyParent> limited = datastore.find(LazyParent.class).iterator(new FindOptions().limit(2)).toList();
+        LazyParent single = datastore.find(LazyParent.class).first();
+        limited.forEach(parent -> parent.child.getName());
+        single.child.getName();
+        fetches = metrics.snapshot().get("fetch:" + datastore.getMapper().getEntityModel(LazyChild.class).getCollectionName());
+        assertEquals(fetches.getCount(), 2, "references from different cursors should not be loaded together");
+        assertEquals(fetches.getItems(), 3);
+    }
+
     @Test
     public void testLoadOnly() {
         getDs().save(new Normal("value"));
@@ -949,6 +1053,50 @@ public class TestMapping extends TestBase {
         }
     }
 
+    @Entity
+    public static class LazyChild {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        public LazyChild() {
+        }
+
+        LazyChild(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    @Entity
+    public static class LazyParent {
+        @Id
+        private ObjectId id;
+        @Reference(lazy = true)
+        private LazyChild child;
+
+        LazyParent() {
+        }
+
+        LazyParent(LazyChild child) {
+            this.child = child;
+        }
+
+        public LazyChild getChild() {
+            return child;
+        }
+    }
+
+    @Entity(value = "reports", concern = "JOURNALED", readPreference = "secondaryPreferred", readConcern = "majority")
+    private static class ReportEntry {
+        @Id
+        private ObjectId id;
+        private String title;
+    }
+
     @Entity("generic_arrays")
     static class MyEntity {
         @Id
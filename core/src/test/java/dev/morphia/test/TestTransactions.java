@@ -2,6 +2,8 @@ package dev.morphia.test;
 
 import com.mongodb.TransactionOptions;
 import dev.morphia.experimental.MorphiaSession;
+import dev.morphia.test.TestMapping.LazyChild;
+import dev.morphia.test.TestMapping.LazyParent;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.User;
 import org.testng.annotations.BeforeMethod;
@@ -86,6 +88,22 @@ public class TestTransactions extends TestBase {
         assertEquals(getDs().find(Rectangle.class).count(), 2);
     }
 
+    @Test
+    public void lazyReferences() {
+        getDs().save(new LazyParent(getDs().save(new LazyChild("committed"))));
+        getDs().find(LazyParent.class).findAndDelete();
+        getDs().find(LazyChild.class).findAndDelete();
+
+        getDs().withTransaction((session) -> {
+            session.save(new LazyParent(session.save(new LazyChild("uncommitted"))));
+
+            assertNull(getDs().find(LazyChild.class).first());
+            assertEquals(session.find(LazyParent.class).first().getChild().getName(), "uncommitted");
+
+            return null;
+        });
+    }
+
     @Test
     public void manual() {
         try (MorphiaSession session = getDs().startSession()) {
@@ -0,0 +1,125 @@
+package dev.morphia.test.mapping.codec.pojo;
+
+import com.sun.management.ThreadMXBean;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.test.TestBase;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDouble;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
+import org.bson.BsonType;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.ObjectId;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Consumer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class MorphiaCodecTest extends TestBase {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+    private static final int ROUNDS = 5;
+
+    private BsonReaderMark mark;
+    private Object retained;
+
+    @Test
+    public void testDecodeAllocations() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            throw new SkipException("Allocation tracking is not available on this JVM");
+        }
+
+        getMapper().map(Flat.class);
+        Codec<Flat> codec = getMapper().getCodecRegistry().get(Flat.class);
+        DecoderContext context = DecoderContext.builder().build();
+        ObjectId id = new ObjectId();
+        BsonDocument document = new BsonDocument("_id", new BsonObjectId(id))
+                                    .append("total", new BsonInt64(1_000_000L))
+                                    .append("ratio", new BsonDouble(0.5));
+
+        Flat flat = codec.decode(new BsonDocumentReader(document), context);
+        assertEquals(flat.id, id);
+        assertEquals(flat.total, 1_000_000L);
+        assertEquals(flat.ratio, 0.5);
+
+        Consumer<BsonReader> decode = reader -> codec.decode(reader, context);
+        EntityModel model = getMapper().getEntityModel(Flat.class);
+        Consumer<BsonReader> create = reader -> create(model, flat.total, flat.ratio);
+        measure(threads, document, this::walk, WARMUP);
+        measure(threads, document, decode, WARMUP);
+        measure(threads, document, create, WARMUP);
+        long baseline = Long.MAX_VALUE;
+        long decoded = Long.MAX_VALUE;
+        long budget = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            baseline = Math.min(baseline, measure(threads, document, this::walk, ITERATIONS));
+            decoded = Math.min(decoded, measure(threads, document, decode, ITERATIONS));
+            budget = Math.min(budget, measure(threads, document, create, ITERATIONS));
+        }
+
+        assertTrue(decoded - baseline <= budget,
+            String.format("Decoding allocated %d bytes per entity beyond reading the document but creating the entity takes %d",
+                decoded - baseline, budget));
+    }
+
+    /**
+     * @return the average number of bytes allocated per action.  The readers are created up front so only the action is measured.
+     */
+    private long measure(ThreadMXBean threads, BsonDocument document, Consumer<BsonReader> action, int iterations) {
+        BsonReader[] readers = new BsonReader[iterations];
+        for (int i = 0; i < iterations; i++) {
+            readers[i] = new BsonDocumentReader(document);
+        }
+        long thread = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(thread);
+        for (BsonReader reader : readers) {
+            action.accept(reader);
+        }
+        return (threads.getThreadAllocatedBytes(thread) - start) / iterations;
+    }
+
+    /**
+     * Allocates what decoding has to on top of reading the document: the instance creator, the entity, and its boxed values.  Each
+     * is retained so that none of them can be optimized away.
+     */
+    private void create(EntityModel model, long total, double ratio) {
+        MorphiaInstanceCreator creator = model.getInstanceCreator();
+        retained = creator;
+        retained = creator.getInstance();
+        retained = total;
+        retained = ratio;
+    }
+
+    /**
+     * Makes the same reader calls as decoding does without creating an entity
+     */
+    private void walk(BsonReader reader) {
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            reader.readName();
+            mark = reader.getMark();
+            reader.skipValue();
+        }
+        reader.readEndDocument();
+    }
+
+    @Entity(useDiscriminator = false)
+    private static class Flat {
+        @Id
+        private ObjectId id;
+        private long total;
+        private double ratio;
+    }
+}
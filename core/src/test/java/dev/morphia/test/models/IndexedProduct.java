@@ -0,0 +1,24 @@
+package dev.morphia.test.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Field;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Index;
+import dev.morphia.annotations.IndexOptions;
+import dev.morphia.annotations.Indexed;
+import dev.morphia.annotations.Indexes;
+import dev.morphia.utils.IndexType;
+import org.bson.types.ObjectId;
+
+@Entity("indexed_products")
+@Indexes({@Index(fields = @Field("name")),
+    @Index(fields = {@Field("category"), @Field(value = "price", type = IndexType.DESC)}, options = @IndexOptions(name = "category_price"))})
+public class IndexedProduct {
+    @Id
+    public ObjectId id;
+    public String name;
+    public String category;
+    public double price;
+    @Indexed(options = @IndexOptions(unique = true))
+    public String sku;
+}
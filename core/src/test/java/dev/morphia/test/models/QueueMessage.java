@@ -0,0 +1,22 @@
+package dev.morphia.test.models;
+
+import dev.morphia.annotations.CappedAt;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+@Entity(cap = @CappedAt(count = 1000))
+public class QueueMessage {
+    @Id
+    public ObjectId id;
+    public String topic;
+    public int sequence;
+
+    private QueueMessage() {
+    }
+
+    public QueueMessage(String topic, int sequence) {
+        this.topic = topic;
+        this.sequence = sequence;
+    }
+}
@@ -0,0 +1,39 @@
+package dev.morphia.test.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.ShardKey;
+import org.bson.types.ObjectId;
+
+@Entity(value = "shipments", useDiscriminator = false)
+@ShardKey("region")
+public class Shipment {
+    @Id
+    private ObjectId id;
+    private String region;
+    private int weight;
+
+    public Shipment() {
+    }
+
+    public Shipment(String region, int weight) {
+        this.region = region;
+        this.weight = weight;
+    }
+
+    public ObjectId getId() {
+        return id;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
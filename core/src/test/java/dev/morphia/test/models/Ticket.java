@@ -0,0 +1,27 @@
+package dev.morphia.test.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.HiLoIdGenerator;
+
+@Entity(value = "tickets", useDiscriminator = false)
+public class Ticket {
+    @Id(generator = HiLoIdGenerator.class)
+    private Long id;
+    private String subject;
+
+    public Ticket() {
+    }
+
+    public Ticket(String subject) {
+        this.subject = subject;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+}
@@ -2,6 +2,7 @@ package dev.morphia.test.optimisticlocks;
 
 import com.mongodb.client.result.UpdateResult;
 import dev.morphia.Datastore;
+import dev.morphia.MergeOptions;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.Version;
@@ -23,6 +24,7 @@ import java.util.Objects;
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.updates.UpdateOperators.set;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 
 
@@ -99,6 +101,24 @@ public class VersionTest extends TestBase {
         });
     }
 
+    @Test
+    public void testMergeReturnsDocument() {
+        final NamedVersion a = new NamedVersion();
+        getDs().save(a);
+        assertEquals(a.v.longValue(), 1);
+
+        a.text = "merged";
+        NamedVersion merged = getDs().merge(a);
+        assertEquals(merged.v.longValue(), 2);
+        assertEquals(merged.text, "merged");
+        assertEquals(a.v.longValue(), 2);
+
+        a.text = "unreturned";
+        assertSame(getDs().merge(a, new MergeOptions().returnDocument(false)), a);
+        assertEquals(a.v.longValue(), 3);
+        assertEquals(getDs().find(NamedVersion.class).filter(eq("_id", a.getId())).first().text, "unreturned");
+    }
+
     @Test
     public void testMultiSaves() {
         getMapper().map(List.of(VersionedType.class));
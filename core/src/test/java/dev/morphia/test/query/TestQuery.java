@@ -0,0 +1,200 @@
+package dev.morphia.test.query;
+
+import dev.morphia.aggregation.experimental.AggregationOptions;
+import dev.morphia.query.ExportFormat;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.PartitionedScan;
+import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
+import dev.morphia.query.internal.CursorSpliterator;
+import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.test.TestBase;
+import dev.morphia.test.models.FacebookUser;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static dev.morphia.query.experimental.filters.Filters.gte;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class TestQuery extends TestBase {
+    @Test
+    public void testExport() {
+        List<FacebookUser> users = createUsers(50);
+        getDs().insert(users);
+
+        Query<FacebookUser> query = getDs().find(FacebookUser.class)
+                                           .filter(gte("_id", 10));
+        ByteArrayOutputStream bson = new ByteArrayOutputStream();
+        assertEquals(query.exportTo(bson, ExportFormat.BSON, new FindOptions().sort(Sort.ascending("_id"))), 40);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bson.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        List<Long> ids = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            int length = buffer.getInt(buffer.position());
+            ids.add(new RawBsonDocument(buffer.array(), buffer.position(), length).getInt64("_id").getValue());
+            buffer.position(buffer.position() + length);
+        }
+        assertEquals(ids, users.subList(10, 50).stream().map(FacebookUser::getId).collect(toList()));
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        query.exportTo(json, ExportFormat.JSON, new FindOptions()
+                                                    .sort(Sort.ascending("_id"))
+                                                    .projection().include("username"));
+        String[] lines = json.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(lines.length, 40);
+        Document first = Document.parse(lines[0]);
+        assertEquals(first.keySet(), Set.of("_id", "username"));
+        assertEquals(first.getString("username"), "user10");
+
+        json.reset();
+        assertEquals(getDs().aggregate(FacebookUser.class)
+                            .match(gte("_id", 45))
+                            .exportTo(json, ExportFormat.JSON, new AggregationOptions()), 5);
+        assertEquals(json.toString(StandardCharsets.UTF_8).split("\n").length, 5);
+    }
+
+    @Test
+    public void testParallelDecoding() {
+        List<FacebookUser> users = createUsers(500);
+        getDs().insert(users);
+
+        FindOptions options = new FindOptions()
+                                  .batchSize(50)
+                                  .decodeExecutor(ForkJoinPool.commonPool())
+                                  .sort(Sort.ascending("_id"));
+        List<FacebookUser> ordered = getDs().find(FacebookUser.class).iterator(options).toList();
+        assertEquals(ordered.stream().map(FacebookUser::getId).collect(toList()),
+            users.stream().map(FacebookUser::getId).collect(toList()));
+
+        List<FacebookUser> unordered = getDs().find(FacebookUser.class)
+                                              .iterator(options.copy().orderedDecode(false))
+                                              .toList();
+        assertEquals(unordered.stream().map(FacebookUser::getId).collect(toSet()),
+            users.stream().map(FacebookUser::getId).collect(toSet()));
+        assertEquals(unordered.size(), 500);
+    }
+
+    @Test
+    public void testPartitionedScan() {
+        List<FacebookUser> users = createUsers(500);
+        getDs().insert(users);
+
+        PartitionedScan<FacebookUser> scan = getDs().find(FacebookUser.class)
+                                                    .filter(gte("_id", 100))
+                                                    .partitionedScan(4, new FindOptions().batchSize(50));
+        assertEquals(scan.getPartitions().size(), 4);
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<Void> first = scan.forEach(user -> {
+            if (user.getId() == 300 && failures.getAndIncrement() == 0) {
+                throw new IllegalStateException("failing once");
+            }
+            assertTrue(ids.add(user.getId()), "duplicate id " + user.getId());
+        }, ForkJoinPool.commonPool());
+        assertThrows(CompletionException.class, first::join);
+        assertFalse(scan.isComplete());
+
+        scan.forEach(user -> assertTrue(ids.add(user.getId()), "duplicate id " + user.getId()), ForkJoinPool.commonPool()).join();
+        assertTrue(scan.isComplete());
+        assertEquals(ids.size(), 400);
+    }
+
+    @Test
+    public void testPrefetching() {
+        List<FacebookUser> users = createUsers(250);
+        getDs().insert(users);
+
+        FindOptions options = new FindOptions()
+                                  .batchSize(20)
+                                  .prefetch(2, ForkJoinPool.commonPool())
+                                  .sort(Sort.ascending("_id"));
+        long expected = 0;
+        try (MorphiaCursor<FacebookUser> cursor = getDs().find(FacebookUser.class).iterator(options)) {
+            while (cursor.hasNext()) {
+                assertEquals(cursor.next().getId(), expected++);
+            }
+        }
+        assertEquals(expected, 250);
+
+        try (MorphiaCursor<FacebookUser> cursor = getDs().find(FacebookUser.class).iterator(options)) {
+            assertNotNull(cursor.next());
+        }
+
+        assertEquals(getDs().aggregate(FacebookUser.class)
+                            .execute(FacebookUser.class, new AggregationOptions()
+                                                             .batchSize(10)
+                                                             .prefetch(1, ForkJoinPool.commonPool()))
+                            .toList()
+                            .size(), 250);
+    }
+
+    @Test
+    public void testStream() {
+        List<FacebookUser> users = createUsers(250);
+        getDs().insert(users);
+
+        FindOptions options = new FindOptions()
+                                  .batchSize(20)
+                                  .sort(Sort.ascending("_id"));
+        try (Stream<FacebookUser> stream = getDs().find(FacebookUser.class).stream(options)) {
+            assertEquals(stream.map(FacebookUser::getId).collect(toList()),
+                users.stream().map(FacebookUser::getId).collect(toList()));
+        }
+        try (Stream<FacebookUser> stream = getDs().find(FacebookUser.class).stream(options)) {
+            assertEquals(stream.parallel().map(FacebookUser::getId).collect(toSet()),
+                users.stream().map(FacebookUser::getId).collect(toSet()));
+        }
+        try (Stream<FacebookUser> stream = getDs().find(FacebookUser.class).stream(options)) {
+            assertEquals(stream.limit(5).count(), 5);
+        }
+        try (Stream<FacebookUser> stream = getDs().find(FacebookUser.class).stream(options)) {
+            Spliterator<FacebookUser> spliterator = stream.spliterator();
+            assertEquals(spliterator.estimateSize(), Long.MAX_VALUE);
+            assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertEquals(spliterator.trySplit().estimateSize(), 20);
+            spliterator.forEachRemaining(user -> { });
+            assertEquals(spliterator.estimateSize(), 0);
+        }
+    }
+
+    @Test
+    public void testStreamReadAhead() {
+        getDs().insert(createUsers((CursorSpliterator.MAX_OUTSTANDING_BATCHES + 2) * 10));
+
+        try (Stream<FacebookUser> stream = getDs().find(FacebookUser.class).stream(new FindOptions().batchSize(10))) {
+            Spliterator<FacebookUser> spliterator = stream.spliterator();
+            Spliterator<FacebookUser> first = spliterator.trySplit();
+            for (int i = 1; i < CursorSpliterator.MAX_OUTSTANDING_BATCHES; i++) {
+                assertNotNull(spliterator.trySplit());
+            }
+            assertNull(spliterator.trySplit());
+
+            first.forEachRemaining(user -> { });
+            assertNotNull(spliterator.trySplit());
+        }
+    }
+}